@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exceptions.TimeBookingException;
+import ru.practicum.shareit.util.Validation;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private BookingDto validBooking;
+    private BookingDto pastBooking;
+    private String firstState = "ALL";
+    private String lastState = "rejected";
+    private String unknownState = "UNSUPPORTED_STATUS";
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusYears(1);
+        validBooking = new BookingDto(1, 2, start, start.plusDays(1));
+        pastBooking = new BookingDto(1, 2, start.minusYears(2), start.minusYears(2).plusDays(1));
+    }
+
+    @Benchmark
+    public BookingDto validateBookingDto() {
+        Validation.validateBookingDto(validBooking);
+        return validBooking;
+    }
+
+    @Benchmark
+    public TimeBookingException validateInvalidBookingDto() {
+        try {
+            Validation.validateBookingDto(pastBooking);
+            return null;
+        } catch (TimeBookingException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Optional<BookingState> bookingStateFromFirst() {
+        return BookingState.from(firstState);
+    }
+
+    @Benchmark
+    public Optional<BookingState> bookingStateFromLast() {
+        return BookingState.from(lastState);
+    }
+
+    @Benchmark
+    public Optional<BookingState> bookingStateFromUnknown() {
+        return BookingState.from(unknownState);
+    }
+}
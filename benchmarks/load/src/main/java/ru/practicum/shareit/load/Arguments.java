@@ -0,0 +1,51 @@
+package ru.practicum.shareit.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class Arguments {
+
+    private final Map<String, String> values;
+
+    private Arguments(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static Arguments parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("expected --name=value, got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new Arguments(values);
+    }
+
+    public String getString(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    public Duration getDuration(String name, Duration defaultValue) {
+        return values.containsKey(name) ? Duration.parse("PT" + values.get(name).toUpperCase()) : defaultValue;
+    }
+
+    public IdRange getIdRange(String name) {
+        String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("--" + name + "=<first>-<last> is required");
+        }
+        String[] bounds = value.split("-");
+        return new IdRange(Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]));
+    }
+}
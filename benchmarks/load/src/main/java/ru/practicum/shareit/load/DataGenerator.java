@@ -0,0 +1,233 @@
+package ru.practicum.shareit.load;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class DataGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int PROGRESS_STEP = 100_000;
+    private static final int HISTORY_DAYS = 365;
+    private static final int HORIZON_DAYS = 90;
+
+    private final Connection connection;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private IdRange userIds;
+    private IdRange requestIds;
+    private IdRange itemIds;
+    private int[] itemOwners;
+
+    public DataGenerator(Connection connection, Random random) {
+        this.connection = connection;
+        this.random = random;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Arguments arguments = Arguments.parse(args);
+        String url = arguments.getString("url", "jdbc:postgresql://localhost:6541/shareit?reWriteBatchedInserts=true");
+        String username = arguments.getString("username", "shareit");
+        String password = arguments.getString("password", "shareit");
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            DataGenerator generator = new DataGenerator(connection, new Random(arguments.getInt("seed", 42)));
+            generator.generateUsers(arguments.getInt("users", 10_000));
+            generator.generateItemRequests(arguments.getInt("requests", 10_000));
+            generator.generateItems(arguments.getInt("items", 100_000), arguments.getDouble("request-share", 0.3));
+            generator.generateBookings(arguments.getInt("bookings", 1_000_000), arguments.getDouble("comment-share", 0.2));
+            generator.syncSequences();
+            System.out.println("load driver arguments: " + generator.loadDriverArguments());
+        }
+    }
+
+    public void generateUsers(int count) throws SQLException {
+        int first = firstFreeId("users", "users_seq");
+        userIds = new IdRange(first, first + count - 1);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into users (id, name, email) values (?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                int id = first + i;
+                statement.setInt(1, id);
+                statement.setString(2, "user " + id);
+                statement.setString(3, "user" + id + "@load.shareit");
+                addBatch(statement, i, "users");
+            }
+            flush(statement, count, "users");
+        }
+    }
+
+    public void generateItemRequests(int count) throws SQLException {
+        int first = firstFreeId("item_requests", "item_requests_seq");
+        requestIds = count > 0 ? new IdRange(first, first + count - 1) : null;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into item_requests (id, description, requester_id, created) values (?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                statement.setInt(1, first + i);
+                statement.setString(2, "looking for a " + SyntheticData.pick(random, SyntheticData.NOUNS));
+                statement.setInt(3, userIds.random(random));
+                statement.setTimestamp(4, Timestamp.valueOf(now.minusMinutes(random.nextInt(400 * 24 * 60))));
+                addBatch(statement, i, "item requests");
+            }
+            flush(statement, count, "item requests");
+        }
+    }
+
+    public void generateItems(int count, double requestShare) throws SQLException {
+        int first = firstFreeId("items", "items_seq");
+        itemIds = new IdRange(first, first + count - 1);
+        itemOwners = new int[count];
+        try (PreparedStatement statement = connection.prepareStatement("insert into items " +
+                "(id, name, description, owner_id, available, item_request_id) values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                String noun = SyntheticData.pick(random, SyntheticData.NOUNS);
+                itemOwners[i] = userIds.skewed(random);
+                statement.setInt(1, first + i);
+                statement.setString(2, SyntheticData.pick(random, SyntheticData.ADJECTIVES) + " " + noun);
+                statement.setString(3, noun + " in good condition, pick up near station " + random.nextInt(300));
+                statement.setInt(4, itemOwners[i]);
+                statement.setBoolean(5, random.nextDouble() < 0.9);
+                if (requestIds != null && random.nextDouble() < requestShare) {
+                    statement.setInt(6, requestIds.random(random));
+                } else {
+                    statement.setNull(6, Types.INTEGER);
+                }
+                addBatch(statement, i, "items");
+            }
+            flush(statement, count, "items");
+        }
+    }
+
+    public void generateBookings(int count, double commentShare) throws SQLException {
+        int[] bookingItems = new int[count];
+        int[] itemBookings = new int[itemIds.size()];
+        for (int i = 0; i < count; i++) {
+            bookingItems[i] = random.nextInt(itemIds.size());
+            itemBookings[bookingItems[i]]++;
+        }
+        LocalDateTime windowStart = now.minusDays(HISTORY_DAYS);
+        long windowMinutes = ChronoUnit.MINUTES.between(windowStart, now.plusDays(HORIZON_DAYS));
+        int[] placedBookings = new int[itemIds.size()];
+        Map<String, Integer> periods = new TreeMap<>();
+        Map<String, Integer> statuses = new TreeMap<>();
+        int firstBookingId = firstFreeId("bookings", "bookings_seq");
+        int commentId = firstFreeId("comments", "comments_seq");
+        int comments = 0;
+        try (PreparedStatement bookingStatement = connection.prepareStatement("insert into bookings " +
+                "(id, item_id, booker_id, start_date, end_date, status) values (?, ?, ?, ?, ?, ?)");
+             PreparedStatement commentStatement = connection.prepareStatement("insert into comments " +
+                     "(id, text, item_id, author_id, created) values (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                int itemIndex = bookingItems[i];
+                int bookerId = userIds.random(random);
+                while (bookerId == itemOwners[itemIndex] && userIds.size() > 1) {
+                    bookerId = userIds.random(random);
+                }
+                long slot = windowMinutes / itemBookings[itemIndex];
+                LocalDateTime slotStart = windowStart.plusMinutes(slot * placedBookings[itemIndex]++);
+                long duration = Math.min(slot, 60 * (1 + Math.min(14 * 24, (long) (-24 * Math.log(1 - random.nextDouble())))));
+                LocalDateTime start = slotStart.plusMinutes((long) (random.nextDouble() * (slot - duration)));
+                LocalDateTime end = start.plusMinutes(duration);
+                String status = bookingStatus(start, end);
+                periods.merge(period(start, end), 1, Integer::sum);
+                statuses.merge(status, 1, Integer::sum);
+
+                bookingStatement.setInt(1, firstBookingId + i);
+                bookingStatement.setInt(2, itemIds.getFirst() + itemIndex);
+                bookingStatement.setInt(3, bookerId);
+                bookingStatement.setTimestamp(4, Timestamp.valueOf(start));
+                bookingStatement.setTimestamp(5, Timestamp.valueOf(end));
+                bookingStatement.setString(6, status);
+                addBatch(bookingStatement, i, "bookings");
+
+                if ("APPROVED".equals(status) && end.isBefore(now) && random.nextDouble() < commentShare) {
+                    commentStatement.setInt(1, commentId + comments);
+                    commentStatement.setString(2, "worked fine, thanks");
+                    commentStatement.setInt(3, itemIds.getFirst() + itemIndex);
+                    commentStatement.setInt(4, bookerId);
+                    commentStatement.setTimestamp(5, Timestamp.valueOf(end.plusHours(random.nextInt(48))));
+                    commentStatement.addBatch();
+                    comments++;
+                    if (comments % BATCH_SIZE == 0) {
+                        commentStatement.executeBatch();
+                    }
+                }
+            }
+            flush(bookingStatement, count, "bookings");
+            flush(commentStatement, comments, "comments");
+        }
+        System.out.println("bookings by period: " + periods);
+        System.out.println("bookings by status: " + statuses);
+    }
+
+    public void syncSequences() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("select setval('users_seq', (select max(id) from users) + 50, false)");
+            statement.execute("select setval('item_requests_seq', coalesce((select max(id) from item_requests), 0) + 50, false)");
+            statement.execute("select setval('items_seq', (select max(id) from items) + 50, false)");
+            statement.execute("select setval('bookings_seq', coalesce((select max(id) from bookings), 0) + 50, false)");
+            statement.execute("select setval('comments_seq', coalesce((select max(id) from comments), 0) + 50, false)");
+            statement.execute("analyze");
+        }
+        connection.commit();
+    }
+
+    public String loadDriverArguments() {
+        return "--user-ids=" + userIds + " --item-ids=" + itemIds;
+    }
+
+    private String period(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(now)) {
+            return "PAST";
+        }
+        return start.isAfter(now) ? "FUTURE" : "CURRENT";
+    }
+
+    private String bookingStatus(LocalDateTime start, LocalDateTime end) {
+        double value = random.nextDouble();
+        if (end.isBefore(now)) {
+            return value < 0.85 ? "APPROVED" : value < 0.95 ? "REJECTED" : "CANCELED";
+        }
+        if (start.isAfter(now)) {
+            return value < 0.55 ? "APPROVED" : value < 0.9 ? "WAITING" : value < 0.97 ? "REJECTED" : "CANCELED";
+        }
+        return "APPROVED";
+    }
+
+    private int firstFreeId(String table, String sequence) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select greatest(coalesce(max(id), 0), " +
+                     "(select last_value from " + sequence + ")) + 1 from " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private void addBatch(PreparedStatement statement, int index, String entities) throws SQLException {
+        statement.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+        if ((index + 1) % PROGRESS_STEP == 0) {
+            System.out.println(entities + ": " + (index + 1));
+        }
+    }
+
+    private void flush(PreparedStatement statement, int count, String entities) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+        System.out.println(entities + ": " + count + " inserted");
+    }
+}
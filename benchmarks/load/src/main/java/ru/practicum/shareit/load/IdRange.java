@@ -0,0 +1,38 @@
+package ru.practicum.shareit.load;
+
+import java.util.Random;
+
+public class IdRange {
+
+    private final int first;
+    private final int last;
+
+    public IdRange(int first, int last) {
+        if (first > last) {
+            throw new IllegalArgumentException("empty id range " + first + "-" + last);
+        }
+        this.first = first;
+        this.last = last;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int random(Random random) {
+        return first + random.nextInt(size());
+    }
+
+    public int skewed(Random random) {
+        return first + SyntheticData.skewedIndex(random, size());
+    }
+
+    public int size() {
+        return last - first + 1;
+    }
+
+    @Override
+    public String toString() {
+        return first + "-" + last;
+    }
+}
@@ -0,0 +1,137 @@
+package ru.practicum.shareit.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadDriver {
+
+    private final HttpClient httpClient;
+    private final String gatewayUrl;
+    private final IdRange userIds;
+    private final IdRange itemIds;
+    private final Map<Scenario, Histogram> latencies = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, LongAdder> errors = new EnumMap<>(Scenario.class);
+    private final int totalWeight;
+
+    public LoadDriver(String gatewayUrl, IdRange userIds, IdRange itemIds) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.gatewayUrl = gatewayUrl;
+        this.userIds = userIds;
+        this.itemIds = itemIds;
+        int weights = 0;
+        for (Scenario scenario : Scenario.values()) {
+            latencies.put(scenario, new ConcurrentHistogram(3));
+            errors.put(scenario, new LongAdder());
+            weights += scenario.getWeight();
+        }
+        this.totalWeight = weights;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Arguments arguments = Arguments.parse(args);
+        LoadDriver driver = new LoadDriver(
+                arguments.getString("gateway", "http://localhost:8080"),
+                arguments.getIdRange("user-ids"),
+                arguments.getIdRange("item-ids")
+        );
+        Duration warmup = arguments.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = arguments.getDuration("duration", Duration.ofSeconds(60));
+        driver.run(arguments.getInt("concurrency", 32), warmup, duration, arguments.getInt("seed", 42));
+        driver.printReport(duration);
+    }
+
+    public void run(int concurrency, Duration warmup, Duration duration, int seed) throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureTo = measureFrom + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Random random = new Random(seed + i);
+            executor.execute(() -> {
+                while (System.nanoTime() < measureTo) {
+                    execute(randomScenario(random), random, measureFrom);
+                }
+            });
+        }
+        System.out.printf("running %d workers against %s: %s warmup, %s measurement%n",
+                concurrency, gatewayUrl, warmup, duration);
+        executor.shutdown();
+        executor.awaitTermination(warmup.plus(duration).plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void printReport(Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        System.out.printf("%-22s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Scenario scenario : Scenario.values()) {
+            Histogram histogram = latencies.get(scenario);
+            long scenarioErrors = errors.get(scenario).sum();
+            printRow(scenario.getTitle(), histogram, scenarioErrors, seconds);
+            total.add(histogram);
+            totalErrors += scenarioErrors;
+        }
+        printRow("total", total, totalErrors, seconds);
+    }
+
+    private void execute(Scenario scenario, Random random, long measureFrom) {
+        HttpRequest request = scenario.request(gatewayUrl, random, userIds, itemIds);
+        long start = System.nanoTime();
+        boolean failed;
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (IOException e) {
+            failed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long end = System.nanoTime();
+        if (start >= measureFrom) {
+            latencies.get(scenario).recordValue(TimeUnit.NANOSECONDS.toMicros(end - start));
+            if (failed) {
+                errors.get(scenario).increment();
+            }
+        }
+    }
+
+    private Scenario randomScenario(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (Scenario scenario : Scenario.values()) {
+            value -= scenario.getWeight();
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("scenario weights are inconsistent");
+    }
+
+    private static void printRow(String title, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-22s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                title,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
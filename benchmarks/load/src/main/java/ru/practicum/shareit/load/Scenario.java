@@ -0,0 +1,84 @@
+package ru.practicum.shareit.load;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+
+public enum Scenario {
+    OWNER_BOOKINGS("GET /bookings/owner", 30) {
+        @Override
+        String path(Random random, IdRange itemIds) {
+            return "/bookings/owner?state=ALL&from=0&size=20";
+        }
+
+        @Override
+        int userId(Random random, IdRange userIds) {
+            return userIds.skewed(random);
+        }
+    },
+    BOOKER_BOOKINGS("GET /bookings", 15) {
+        @Override
+        String path(Random random, IdRange itemIds) {
+            return "/bookings?state=ALL&from=0&size=20";
+        }
+    },
+    OWNER_ITEMS("GET /items", 20) {
+        @Override
+        String path(Random random, IdRange itemIds) {
+            return "/items?from=0&size=20";
+        }
+
+        @Override
+        int userId(Random random, IdRange userIds) {
+            return userIds.skewed(random);
+        }
+    },
+    ITEM("GET /items/{id}", 15) {
+        @Override
+        String path(Random random, IdRange itemIds) {
+            return "/items/" + itemIds.random(random);
+        }
+    },
+    SEARCH("GET /items/search", 20) {
+        @Override
+        String path(Random random, IdRange itemIds) {
+            String text = URLEncoder.encode(SyntheticData.pick(random, SyntheticData.NOUNS), StandardCharsets.UTF_8);
+            return "/items/search?text=" + text + "&from=0&size=20";
+        }
+    };
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String title;
+    private final int weight;
+
+    Scenario(String title, int weight) {
+        this.title = title;
+        this.weight = weight;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public HttpRequest request(String gatewayUrl, Random random, IdRange userIds, IdRange itemIds) {
+        return HttpRequest.newBuilder(URI.create(gatewayUrl + path(random, itemIds)))
+                .header("X-Sharer-User-Id", String.valueOf(userId(random, userIds)))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    abstract String path(Random random, IdRange itemIds);
+
+    int userId(Random random, IdRange userIds) {
+        return userIds.random(random);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.load;
+
+import java.util.Random;
+
+public class SyntheticData {
+
+    public static final String[] NOUNS = {
+            "drill", "saw", "ladder", "tent", "bike", "kayak", "projector", "camera", "tripod", "grill",
+            "scooter", "snowboard", "guitar", "speaker", "vacuum", "mixer", "sewing machine", "telescope",
+            "hammock", "trailer", "lawn mower", "pressure washer", "stroller", "car seat", "sleeping bag"
+    };
+
+    public static final String[] ADJECTIVES = {
+            "cordless", "electric", "compact", "folding", "heavy duty", "portable", "vintage", "kids",
+            "professional", "lightweight", "waterproof", "family"
+    };
+
+    private SyntheticData() {
+    }
+
+    public static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+    public static int skewedIndex(Random random, int bound) {
+        double value = random.nextDouble();
+        return (int) (bound * value * value);
+    }
+}
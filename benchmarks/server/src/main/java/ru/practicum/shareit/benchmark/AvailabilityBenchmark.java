@@ -0,0 +1,87 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingPeriodView;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.service.AvailabilityCalculator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    @Param({"1000", "10000"})
+    private int bookings;
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<BookingPeriodView> overlappingPeriods;
+    private List<BookingPeriodView> adjacentPeriods;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        to = from.plusHours(bookings * 2L);
+        overlappingPeriods = new ArrayList<>();
+        adjacentPeriods = new ArrayList<>();
+        for (int i = 0; i < bookings; i++) {
+            LocalDateTime start = from.plusHours(random.nextInt(bookings * 2)).minusHours(1);
+            overlappingPeriods.add(new Period(start, start.plusHours(1 + random.nextInt(6))));
+            LocalDateTime adjacentStart = from.plusHours(i * 2L);
+            adjacentPeriods.add(new Period(adjacentStart, adjacentStart.plusHours(1 + i % 2)));
+        }
+        Collections.shuffle(adjacentPeriods, random);
+    }
+
+    @Benchmark
+    public ItemAvailabilityDto calculateForOverlappingBookings() {
+        return AvailabilityCalculator.calculate(1, from, to, overlappingPeriods);
+    }
+
+    @Benchmark
+    public ItemAvailabilityDto calculateForAdjacentBookings() {
+        return AvailabilityCalculator.calculate(1, from, to, adjacentPeriods);
+    }
+
+    private static class Period implements BookingPeriodView {
+
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        Period(LocalDateTime start, LocalDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        @Override
+        public LocalDateTime getEnd() {
+            return end;
+        }
+    }
+}
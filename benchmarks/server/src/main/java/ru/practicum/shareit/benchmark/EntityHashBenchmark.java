@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityHashBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<Item> items;
+    private List<Item> classHashedItems;
+    private List<Item> transientItems;
+    private Set<Item> itemSet;
+    private Set<Item> classHashedItemSet;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>();
+        classHashedItems = new ArrayList<>();
+        transientItems = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            items.add(item(new Item(), i));
+            classHashedItems.add(item(new ClassHashedItem(), i));
+            transientItems.add(item(new Item(), null));
+        }
+        itemSet = new HashSet<>(items);
+        classHashedItemSet = new HashSet<>(classHashedItems);
+    }
+
+    @Benchmark
+    public Set<Item> addWithIdHash() {
+        return new HashSet<>(items);
+    }
+
+    @Benchmark
+    public Set<Item> addWithClassHash() {
+        return new HashSet<>(classHashedItems);
+    }
+
+    @Benchmark
+    public Set<Item> addTransientWithIdHash() {
+        return new HashSet<>(transientItems);
+    }
+
+    @Benchmark
+    public int containsWithIdHash() {
+        int found = 0;
+        for (Item item : items) {
+            if (itemSet.contains(item)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int containsWithClassHash() {
+        int found = 0;
+        for (Item item : classHashedItems) {
+            if (classHashedItemSet.contains(item)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static Item item(Item item, Integer id) {
+        item.setId(id);
+        item.setName("item " + id);
+        item.setAvailable(true);
+        return item;
+    }
+
+    private static class ClassHashedItem extends Item {
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class InsertBenchmark {
+
+    @Param({"test"})
+    private String profile;
+
+    @Param({"1", "50", "500"})
+    private int rowsPerTransaction;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profile)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("create table identity_users (" +
+                "id int generated by default as identity primary key, " +
+                "name varchar(100) not null, " +
+                "email varchar(200) not null unique)");
+        jdbcTemplate.execute("create sequence sequence_users_seq start with 1 increment by 50");
+        jdbcTemplate.execute("create table sequence_users (" +
+                "id int primary key, " +
+                "name varchar(100) not null, " +
+                "email varchar(200) not null unique)");
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() {
+        jdbcTemplate.update("delete from sequence_users");
+        jdbcTemplate.update("delete from identity_users");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("drop table identity_users");
+        jdbcTemplate.execute("drop table sequence_users");
+        jdbcTemplate.execute("drop sequence sequence_users_seq");
+        context.close();
+    }
+
+    @Benchmark
+    public int insertWithPooledSequence() {
+        return transaction.execute(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                int n = nextUser++;
+                entityManager.persist(new SequenceUser("user " + n, "user" + n + "@mail.ru"));
+            }
+            return rowsPerTransaction;
+        });
+    }
+
+    @Benchmark
+    public int insertWithIdentity() {
+        return transaction.execute(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                int n = nextUser++;
+                entityManager.persist(new IdentityUser("user " + n, "user" + n + "@mail.ru"));
+            }
+            return rowsPerTransaction;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private final BookingMapper bookingMapper = new BookingMapper(null, null);
+    private final ItemRequestMapper itemRequestMapper = new ItemRequestMapper(null);
+
+    private Booking booking;
+    private List<Booking> bookings;
+    private Item item;
+    private List<Item> items;
+    private Set<Comment> comments;
+    private ItemRequest itemRequest;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = new User(1, "owner", "owner@mail.ru", null, null, null);
+        User booker = new User(2, "booker", "booker@mail.ru", null, null, null);
+        itemRequest = new ItemRequest(1, "need a drill", booker, now, new HashSet<>());
+
+        comments = new HashSet<>();
+        items = new ArrayList<>();
+        bookings = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            Item nextItem = new Item(i, "item " + i, "description of item " + i, owner.getId(), true,
+                    new HashSet<>(), new HashSet<>(), itemRequest);
+            Comment comment = new Comment(i, "comment " + i, nextItem, booker, now.minusDays(i));
+            nextItem.getComments().add(comment);
+            comments.add(comment);
+            items.add(nextItem);
+            itemRequest.getItems().add(nextItem);
+            bookings.add(new Booking(i, nextItem, booker, now.plusDays(i), now.plusDays(i + 1), BookingStatus.APPROVED));
+        }
+        item = items.get(0);
+        booking = bookings.get(0);
+    }
+
+    @Benchmark
+    public BookingResponseDto mapBooking() {
+        return bookingMapper.mapToBookingResponseDto(booking);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> mapBookings() {
+        return bookingMapper.mapToBookingResponseDto(bookings);
+    }
+
+    @Benchmark
+    public ItemDto mapItem() {
+        return ItemMapper.mapToItemDto(item);
+    }
+
+    @Benchmark
+    public List<ItemDto> mapItems() {
+        return ItemMapper.mapToItemDto(items);
+    }
+
+    @Benchmark
+    public Set<CommentDto> mapComments() {
+        return CommentMapper.mapToCommentDto(comments);
+    }
+
+    @Benchmark
+    public ItemRequestDto mapItemRequest() {
+        return itemRequestMapper.mapToItemRequestDto(itemRequest);
+    }
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.util.MyPageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MyPageRequestBenchmark {
+
+    private final Sort sort = Sort.by(Sort.Direction.DESC, "start", "id");
+
+    private int from = 35;
+    private int size = 10;
+
+    @Benchmark
+    public long createPageRequest() {
+        PageRequest pageRequest = new MyPageRequest(from, size, sort);
+        return pageRequest.getOffset();
+    }
+
+    @Benchmark
+    public long createPageRequestWithSort() {
+        PageRequest pageRequest = new MyPageRequest(from, size, Sort.by(Sort.Direction.DESC, "start", "id"));
+        return pageRequest.getOffset();
+    }
+}
@@ -0,0 +1,172 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingShortView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.MyPageRequest;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class RepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Sort BOOKING_SORT = Sort.by(Sort.Direction.DESC, "start", "id");
+
+    @Param({"1000"})
+    private int users;
+
+    @Param({"10000"})
+    private int items;
+
+    @Param({"100000"})
+    private int bookings;
+
+    @Param({"false"})
+    private boolean queryCache;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private ItemRepository itemRepository;
+    private BookingMapper bookingMapper;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private List<Integer> itemIdsOfFirstOwner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=" + queryCache,
+                        "logging.level.root=WARN"
+                )
+                .run();
+        bookingRepository = context.getBean(BookingRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        bookingMapper = context.getBean(BookingMapper.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into users (id, name, email) " +
+                "select x, 'user ' || x, 'user' || x || '@mail.ru' from system_range(1, ?)", users);
+        jdbcTemplate.update("insert into items (id, name, description, owner_id, available) " +
+                "select x, 'item ' || x, 'description of item ' || x, mod(x, ?) + 1, mod(x, 10) <> 0 " +
+                "from system_range(1, ?)", users, items);
+        jdbcTemplate.update("insert into bookings (id, item_id, booker_id, start_date, end_date, status) " +
+                "select x, mod(x, ?) + 1, mod(x * 7, ?) + 1, " +
+                "dateadd(hour, x - ? / 2, localtimestamp), dateadd(hour, x - ? / 2 + 2, localtimestamp), " +
+                "case when mod(x, 20) < 14 then 'APPROVED' when mod(x, 20) < 17 then 'WAITING' " +
+                "when mod(x, 20) < 19 then 'REJECTED' else 'CANCELED' end " +
+                "from system_range(1, ?)", items, users, bookings, bookings, bookings);
+        jdbcTemplate.update("insert into comments (id, text, item_id, author_id, created) " +
+                "select x, 'comment ' || x, mod(x, ?) + 1, mod(x * 7, ?) + 1, localtimestamp " +
+                "from system_range(1, ?)", items, users, items / 2);
+        jdbcTemplate.execute("analyze");
+        itemIdsOfFirstOwner = jdbcTemplate.queryForList("select id from items where owner_id = 1", Integer.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> findBookingsForOwner() {
+        return bookingRepository.getBookingsByItem_OwnerIdOrderByStartDesc(
+                randomUserId(),
+                new MyPageRequest(0, PAGE_SIZE, BOOKING_SORT)
+        );
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> findBookingsForOwnerAsEntities() {
+        int ownerId = randomUserId();
+        return readOnlyTransaction.execute(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            List<Booking> bookingList = entityManager.createQuery("select b from Booking as b " +
+                            "join fetch b.item as it join fetch b.booker " +
+                            "where it.ownerId = :ownerId order by b.start desc, b.id desc", Booking.class)
+                    .setParameter("ownerId", ownerId)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            return bookingMapper.mapToBookingResponseDto(bookingList);
+        });
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> findBookingsForBookerAfterCursor() {
+        return bookingRepository.getBookingsByBookerIdAndStatusAndCursor(
+                randomUserId(),
+                BookingStatus.APPROVED,
+                LocalDateTime.now(),
+                Integer.MAX_VALUE,
+                PageRequest.of(0, PAGE_SIZE)
+        );
+    }
+
+    @Benchmark
+    public List<Item> findItemsForOwner() {
+        return itemRepository.findAllByOwnerId(randomUserId(), new MyPageRequest(0, PAGE_SIZE, Sort.by("id")));
+    }
+
+    @Benchmark
+    public List<Item> searchItems() {
+        return itemRepository.findAllByAvailableIsTrueAndNameAndDescriptionContainingIgnoreCase(
+                "item " + randomUserId(),
+                new MyPageRequest(0, PAGE_SIZE, Sort.by("id"))
+        );
+    }
+
+    @Benchmark
+    public List<BookingShortView> findLastApprovedBookingsForItems() {
+        return bookingRepository.findLastApprovedBookingsForItems(itemIdsOfFirstOwner, LocalDateTime.now());
+    }
+
+    private int randomUserId() {
+        return ThreadLocalRandom.current().nextInt(users) + 1;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.practicum.shareit.benchmark;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+@Entity
+@Table(name = "sequence_users")
+public class SequenceUser {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence_users_seq")
+    @SequenceGenerator(name = "sequence_users_seq", sequenceName = "sequence_users_seq", allocationSize = 50)
+    private Integer id;
+
+    private String name;
+
+    private String email;
+
+    protected SequenceUser() {
+    }
+
+    public SequenceUser(String name, String email) {
+        this.name = name;
+        this.email = email;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+}
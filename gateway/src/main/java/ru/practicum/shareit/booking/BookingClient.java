@@ -2,45 +2,67 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.cache.ResponseCache;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.util.Validation;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl,
+                         WebClient.Builder builder,
+                         ResponseCache responseCache) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .baseUrl(serverUrl + API_PREFIX)
                         .build()
         );
+        this.responseCache = responseCache;
     }
 
-    public ResponseEntity<Object> addBooking(int userId, BookingDto bookingDto) {
+    public Mono<ResponseEntity<Object>> addBooking(int userId, BookingDto bookingDto) {
         Validation.validateBookingDto(bookingDto);
         return post("", userId, bookingDto);
     }
 
-    public ResponseEntity<Object> approveBooking(Integer userId, Integer bookingId, boolean approved) {
-        return patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", approved));
+    public Mono<ResponseEntity<Object>> addBookings(int userId, List<BookingDto> bookingDtoList) {
+        Validation.validateBookingDtoList(bookingDtoList);
+        return post("/batch", userId, bookingDtoList);
+    }
+
+    public Mono<ResponseEntity<Object>> approveBooking(Integer userId, Integer bookingId, boolean approved) {
+        return responseCache.evictOnSuccess(
+                patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", approved)),
+                ResponseCache.ITEMS
+        );
     }
 
-    public ResponseEntity<Object> findBookingById(int userId, int bookingId) {
+    public Mono<ResponseEntity<Object>> findBookingById(int userId, int bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> findAllBookingsForCurrentUser(int userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> findAllBookingsForCurrentUser(int userId, BookingState state, Integer from, Integer size,
+                                                                  String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("?state={state}&size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -49,7 +71,16 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> findAllBookingsForOwnerOfItems(int userId, BookingState state, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> findAllBookingsForOwnerOfItems(int userId, BookingState state, Integer from, Integer size,
+                                                                  String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("/owner?state={state}&size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -5,12 +5,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.exceptions.BookingStateException;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/bookings")
@@ -20,15 +22,23 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @PostMapping
-    public ResponseEntity<Object> addBooking(
+    public Mono<ResponseEntity<Object>> addBooking(
             @RequestHeader("X-Sharer-User-Id") Integer userId,
             @Valid @RequestBody BookingDto bookingDto
     ) {
         return bookingClient.addBooking(userId, bookingDto);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Object>> addBookings(
+            @RequestHeader("X-Sharer-User-Id") Integer userId,
+            @RequestBody List<BookingDto> bookingDtoList
+    ) {
+        return bookingClient.addBookings(userId, bookingDtoList);
+    }
+
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> approveBooking(
+    public Mono<ResponseEntity<Object>> approveBooking(
             @RequestHeader("X-Sharer-User-Id") Integer userId,
             @PathVariable Integer bookingId,
             @RequestParam boolean approved
@@ -37,7 +47,7 @@ public class BookingController {
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> findBookingById(
+    public Mono<ResponseEntity<Object>> findBookingById(
             @RequestHeader("X-Sharer-User-Id") Integer userId,
             @PathVariable Integer bookingId
     ) {
@@ -45,24 +55,26 @@ public class BookingController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> findAllBookingsForCurrentUser(
+    public Mono<ResponseEntity<Object>> findAllBookingsForCurrentUser(
             @RequestHeader("X-Sharer-User-Id") Integer bookerId,
             @RequestParam(name = "state", defaultValue = "all") String stateParam,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
-            @Positive @RequestParam(defaultValue = "10") Integer size) {
+            @Positive @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new BookingStateException("Unknown state: " + stateParam));
-        return bookingClient.findAllBookingsForCurrentUser(bookerId, state, from, size);
+        return bookingClient.findAllBookingsForCurrentUser(bookerId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> findAllBookingsForOwnerOfItems(
+    public Mono<ResponseEntity<Object>> findAllBookingsForOwnerOfItems(
             @RequestHeader("X-Sharer-User-Id") Integer ownerId,
             @RequestParam(name = "state", defaultValue = "all") String stateParam,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
-            @Positive @RequestParam(defaultValue = "10") Integer size) {
+            @Positive @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor) {
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new BookingStateException("Unknown state: " + stateParam));
-        return bookingClient.findAllBookingsForOwnerOfItems(ownerId, state, from, size);
+        return bookingClient.findAllBookingsForOwnerOfItems(ownerId, state, from, size, cursor);
     }
 }
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCache {
+    public static final String ITEMS = "items";
+    public static final String SEARCH = "search";
+    public static final String REQUESTS = "requests";
+
+    private final ReactiveRedisTemplate<String, byte[]> responseCacheRedisTemplate;
+    private final ResponseCacheProperties properties;
+
+    public Mono<ResponseEntity<Object>> get(String namespace,
+                                            String key,
+                                            Supplier<Mono<ResponseEntity<Object>>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        return currentVersion(namespace)
+                .map(version -> entryKey(namespace, version, key))
+                .flatMap(entryKey -> responseCacheRedisTemplate.opsForValue().get(entryKey)
+                        .onErrorResume(this::skipCache)
+                        .map(ResponseCache::toResponse)
+                        .switchIfEmpty(Mono.defer(() -> loader.get()
+                                .flatMap(response -> store(namespace, entryKey, response)))))
+                .switchIfEmpty(Mono.defer(loader));
+    }
+
+    public Mono<ResponseEntity<Object>> evictOnSuccess(Mono<ResponseEntity<Object>> response, String... namespaces) {
+        if (!properties.isEnabled()) {
+            return response;
+        }
+        return response.flatMap(entity -> entity.getStatusCode().is2xxSuccessful()
+                ? evict(namespaces).thenReturn(entity)
+                : Mono.just(entity));
+    }
+
+    private Mono<Void> evict(String... namespaces) {
+        return Flux.fromArray(namespaces)
+                .flatMap(namespace -> responseCacheRedisTemplate.opsForValue().increment(versionKey(namespace)))
+                .then()
+                .onErrorResume(this::skipCache);
+    }
+
+    private Mono<Long> currentVersion(String namespace) {
+        return responseCacheRedisTemplate.opsForValue().get(versionKey(namespace))
+                .map(version -> Long.parseLong(new String(version, StandardCharsets.UTF_8)))
+                .defaultIfEmpty(0L)
+                .onErrorResume(this::skipCache);
+    }
+
+    private Mono<ResponseEntity<Object>> store(String namespace, String entryKey, ResponseEntity<Object> response) {
+        if (response.getStatusCode() != HttpStatus.OK || !(response.getBody() instanceof byte[])) {
+            return Mono.just(response);
+        }
+        return responseCacheRedisTemplate.opsForValue()
+                .set(entryKey, (byte[]) response.getBody(), properties.getTimeToLive(namespace))
+                .onErrorResume(this::skipCache)
+                .thenReturn(response);
+    }
+
+    private String versionKey(String namespace) {
+        return properties.getKeyPrefix() + ":" + namespace + ":version";
+    }
+
+    private String entryKey(String namespace, long version, String key) {
+        return properties.getKeyPrefix() + ":" + namespace + ":" + version + ":" + key;
+    }
+
+    private <T> Mono<T> skipCache(Throwable e) {
+        log.warn("response cache is unavailable: {}", e.getMessage());
+        return Mono.empty();
+    }
+
+    private static ResponseEntity<Object> toResponse(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
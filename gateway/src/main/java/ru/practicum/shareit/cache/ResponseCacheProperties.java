@@ -0,0 +1,27 @@
+package ru.practicum.shareit.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled;
+
+    private String keyPrefix = "shareit-gateway";
+
+    private Duration defaultTimeToLive = Duration.ofSeconds(30);
+
+    private Map<String, Duration> timeToLive = new HashMap<>();
+
+    public Duration getTimeToLive(String namespace) {
+        return timeToLive.getOrDefault(namespace, defaultTimeToLive);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 @RestControllerAdvice
 @Slf4j
@@ -46,4 +47,11 @@ public class ErrorHandler {
         log.debug(error);
         return new ErrorResponse(error);
     }
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleWebClientRequestException(WebClientRequestException e) {
+        log.warn("Error {}", e.getMessage());
+        return new ErrorResponse("shareit server is unavailable");
+    }
 }
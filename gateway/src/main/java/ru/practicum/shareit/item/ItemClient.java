@@ -2,16 +2,18 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.cache.ResponseCache;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.exceptions.CommentException;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.util.Validation;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Map;
 
@@ -19,30 +21,55 @@ import java.util.Map;
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl,
+                      WebClient.Builder builder,
+                      ResponseCache responseCache) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .baseUrl(serverUrl + API_PREFIX)
                         .build()
         );
+        this.responseCache = responseCache;
     }
 
-    public ResponseEntity<Object> addItem(int userId, ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> addItem(int userId, ItemDto itemDto) {
+        return responseCache.evictOnSuccess(
+                post("", userId, itemDto),
+                ResponseCache.SEARCH, ResponseCache.REQUESTS
+        );
+    }
 
-        return post("", userId, itemDto);
+    public Mono<ResponseEntity<Object>> updateItem(Integer userId, Integer itemId, ItemDto itemDto) {
+        return responseCache.evictOnSuccess(
+                patch("/" + itemId, userId, itemDto),
+                ResponseCache.ITEMS, ResponseCache.SEARCH, ResponseCache.REQUESTS
+        );
     }
 
-    public ResponseEntity<Object> updateItem(Integer userId, Integer itemId, ItemDto itemDto) {
-        return patch("/" + itemId, userId, itemDto);
+    public Mono<ResponseEntity<Object>> findItemById(int userId, int itemId) {
+        return responseCache.get(ResponseCache.ITEMS, itemId + ":" + userId, () -> get("/" + itemId, userId));
     }
 
-    public ResponseEntity<Object> findItemById(int userId, int itemId) {
-        return get("/" + itemId, userId);
+    public Mono<ResponseEntity<Object>> findItemAvailability(int userId, int itemId, LocalDateTime from, LocalDateTime to) {
+        Validation.validateAvailabilityPeriod(from, to);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters);
     }
 
-    public ResponseEntity<Object> findAllItemsForUser(int userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> findAllItemsForUser(int userId, Integer from, Integer size, String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "size", size,
+                    "cursor", cursor
+            );
+            return get("?size={size}&cursor={cursor}", userId, parameters);
+        }
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -50,22 +77,29 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> searchItemsByText(String text, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> searchItemsByText(String text, Integer from, Integer size) {
         if (text.isBlank()) {
-            return ResponseEntity.ok(Collections.emptyList());
+            return Mono.just(ResponseEntity.ok(Collections.emptyList()));
         }
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+        return responseCache.get(
+                ResponseCache.SEARCH,
+                from + ":" + size + ":" + text,
+                () -> get("/search?text={text}&from={from}&size={size}", null, parameters)
+        );
     }
 
-    public ResponseEntity<Object> addComment(Integer userId, Integer itemId, CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(Integer userId, Integer itemId, CommentDto commentDto) {
         if (commentDto.getText().isBlank()) {
             throw new CommentException("text of comment is empty");
         }
-        return post("/" + itemId + "/comment", userId, commentDto);
+        return responseCache.evictOnSuccess(
+                post("/" + itemId + "/comment", userId, commentDto),
+                ResponseCache.ITEMS, ResponseCache.SEARCH, ResponseCache.REQUESTS
+        );
     }
 }
\ No newline at end of file
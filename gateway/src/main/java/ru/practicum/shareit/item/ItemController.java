@@ -1,14 +1,17 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,40 +21,51 @@ public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> addItem(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> addItem(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                           @Valid @RequestBody ItemDto itemDto) {
         return itemClient.addItem(userId, itemDto);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> updateUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                              @PathVariable Integer itemId,
                                              @RequestBody ItemDto itemDto) {
         return itemClient.updateItem(userId, itemId, itemDto);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> findItemById(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> findItemById(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                                @PathVariable Integer itemId) {
         return itemClient.findItemById(userId, itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Object>> findItemAvailability(
+            @RequestHeader("X-Sharer-User-Id") Integer userId,
+            @PathVariable Integer itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return itemClient.findItemAvailability(userId, itemId, from, to);
+    }
+
     @GetMapping
-    public ResponseEntity<Object> findAllItemsForUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> findAllItemsForUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                                       @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
-                                                      @Positive @RequestParam(defaultValue = "10") Integer size) {
-        return itemClient.findAllItemsForUser(userId, from, size);
+                                                      @Positive @RequestParam(defaultValue = "10") Integer size,
+                                                      @RequestParam(required = false) String cursor) {
+        return itemClient.findAllItemsForUser(userId, from, size, cursor);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItemByText(@RequestParam String text,
+    public Mono<ResponseEntity<Object>> searchItemByText(@RequestParam String text,
                                                    @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
                                                    @Positive @RequestParam(defaultValue = "10") Integer size) {
         return itemClient.searchItemsByText(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                              @PathVariable Integer itemId,
                                              @RequestBody CommentDto commentDto) {
         return itemClient.addComment(userId, itemId, commentDto);
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import javax.validation.Valid;
@@ -17,27 +18,28 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> addRequest(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> addRequest(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                              @Valid @RequestBody ItemRequestDto itemRequestDto) {
         return itemRequestClient.addRequest(userId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> findRequestsOfUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> findRequestsOfUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                                      @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
                                                      @Positive @RequestParam(defaultValue = "10") Integer size) {
         return itemRequestClient.findRequestsOfUser(userId, from, size);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> findAllRequests(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> findAllRequests(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                                   @PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
-                                                  @Positive @RequestParam(defaultValue = "10") Integer size) {
-        return itemRequestClient.findAllRequests(userId, from, size);
+                                                  @Positive @RequestParam(defaultValue = "10") Integer size,
+                                                  @RequestParam(required = false) String cursor) {
+        return itemRequestClient.findAllRequests(userId, from, size, cursor);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> findRequestById(@RequestHeader("X-Sharer-User-Id") Integer userId,
+    public Mono<ResponseEntity<Object>> findRequestById(@RequestHeader("X-Sharer-User-Id") Integer userId,
                                                   @PathVariable Integer requestId) {
         return itemRequestClient.findById(userId, requestId);
     }
@@ -2,45 +2,69 @@ package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.cache.ResponseCache;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.util.Validation;
+
+import java.util.Map;
 
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl,
+                      WebClient.Builder builder,
+                      ResponseCache responseCache) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                        .baseUrl(serverUrl + API_PREFIX)
                         .build()
         );
+        this.responseCache = responseCache;
     }
 
-    public ResponseEntity<Object> addUser(UserDto userDto) {
+    public Mono<ResponseEntity<Object>> addUser(UserDto userDto) {
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> updateUser(Integer userId, UserDto userDto) {
-        return patch("/" + userId, userDto);
+    public Mono<ResponseEntity<Object>> updateUser(Integer userId, UserDto userDto) {
+        return responseCache.evictOnSuccess(
+                patch("/" + userId, userDto),
+                ResponseCache.ITEMS, ResponseCache.SEARCH, ResponseCache.REQUESTS
+        );
     }
 
-    public ResponseEntity<Object> findUserById(int userId) {
+    public Mono<ResponseEntity<Object>> findUserById(int userId) {
         return get("/" + userId);
     }
 
-    public ResponseEntity<Object> findAllUsers() {
-        return get("");
+    public Mono<ResponseEntity<Object>> findAllUsers(Integer from, Integer size) {
+        Validation.validateUsersPageSize(size);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<StreamingResponseBody>> exportAllUsers() {
+        return getStream("/export", MediaType.APPLICATION_NDJSON);
     }
 
-    public void deleteUserById(Integer userId) {
-        delete("/" + userId);
+    public Mono<Void> deleteUserById(Integer userId) {
+        return responseCache.evictOnSuccess(
+                delete("/" + userId),
+                ResponseCache.ITEMS, ResponseCache.SEARCH, ResponseCache.REQUESTS
+        ).then();
     }
 }
\ No newline at end of file
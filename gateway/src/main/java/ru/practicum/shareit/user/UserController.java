@@ -1,41 +1,54 @@
 package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
 
 @RestController
 @RequiredArgsConstructor
+@Validated
 @RequestMapping(path = "/users")
 public class UserController {
 
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> addUser(@Valid @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> addUser(@Valid @RequestBody UserDto userDto) {
         return userClient.addUser(userDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@PathVariable Integer userId, @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> updateUser(@PathVariable Integer userId, @RequestBody UserDto userDto) {
         return userClient.updateUser(userId, userDto);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> findUserById(@PathVariable Integer userId) {
+    public Mono<ResponseEntity<Object>> findUserById(@PathVariable Integer userId) {
         return userClient.findUserById(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> findAllUsers() {
-        return userClient.findAllUsers();
+    public Mono<ResponseEntity<Object>> findAllUsers(@PositiveOrZero @RequestParam(defaultValue = "0") Integer from,
+                                                     @Positive @RequestParam(defaultValue = "10") Integer size) {
+        return userClient.findAllUsers(from, size);
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<StreamingResponseBody>> exportAllUsers() {
+        return userClient.exportAllUsers();
     }
 
     @DeleteMapping("/{userId}")
-    public void deleteUserById(@PathVariable Integer userId) {
-        userClient.deleteUserById(userId);
+    public Mono<Void> deleteUserById(@PathVariable Integer userId) {
+        return userClient.deleteUserById(userId);
     }
 }
@@ -1,11 +1,16 @@
 package ru.practicum.shareit.util;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exceptions.BadRequestException;
 import ru.practicum.shareit.exceptions.TimeBookingException;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 public class Validation {
+    public static final int MAX_BOOKING_BATCH_SIZE = 100;
+    public static final int MAX_USERS_PAGE_SIZE = 100;
 
     public static void validateBookingDto(BookingDto bookingDto) {
 
@@ -22,4 +27,30 @@ public class Validation {
             );
         }
     }
-}
\ No newline at end of file
+
+    public static void validateBookingDtoList(List<BookingDto> bookingDtoList) {
+        if (bookingDtoList.isEmpty() || bookingDtoList.size() > MAX_BOOKING_BATCH_SIZE) {
+            throw new BadRequestException(
+                    "batch must contain from 1 to " + MAX_BOOKING_BATCH_SIZE + " bookings"
+            );
+        }
+        if (bookingDtoList.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("batch must not contain null bookings");
+        }
+        bookingDtoList.forEach(Validation::validateBookingDto);
+    }
+
+    public static void validateUsersPageSize(int size) {
+        if (size > MAX_USERS_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "size must not exceed " + MAX_USERS_PAGE_SIZE + ", use /users/export to read all users"
+            );
+        }
+    }
+
+    public static void validateAvailabilityPeriod(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Wrong availability period");
+        }
+    }
+}
@@ -3,12 +3,15 @@ package ru.practicum.shareit.booking;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.util.MyPageRequest;
+import ru.practicum.shareit.util.PageCursor;
 
 import java.util.List;
 
@@ -27,6 +30,14 @@ public class BookingController {
         return bookingService.addBooking(userId, bookingDto);
     }
 
+    @PostMapping("/batch")
+    public List<BookingResponseDto> addBookings(
+            @RequestHeader("X-Sharer-User-Id") Integer userId,
+            @RequestBody List<BookingDto> bookingDtoList
+    ) {
+        return bookingService.addBookings(userId, bookingDtoList);
+    }
+
     @PatchMapping("/{bookingId}")
     public BookingResponseDto approveBooking(
             @RequestHeader("X-Sharer-User-Id") Integer userId,
@@ -45,24 +56,47 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> findAllBookingsForCurrentUser(
+    public ResponseEntity<List<BookingResponseDto>> findAllBookingsForCurrentUser(
             @RequestHeader("X-Sharer-User-Id") Integer bookerId,
             @RequestParam(defaultValue = "all") BookingState state,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor
     ) {
-        PageRequest pageRequest = new MyPageRequest(from, size, Sort.by(Sort.Direction.DESC, "start"));
-        return bookingService.findAllBookingsForCurrentUser(bookerId, state, pageRequest);
+        List<BookingResponseDto> bookings;
+        if (cursor == null) {
+            PageRequest pageRequest = new MyPageRequest(from, size, Sort.by(Sort.Direction.DESC, "start", "id"));
+            bookings = bookingService.findAllBookingsForCurrentUser(bookerId, state, pageRequest);
+        } else {
+            bookings = bookingService.findAllBookingsForCurrentUser(bookerId, state, PageCursor.decode(cursor), size);
+        }
+        return ResponseEntity.ok().headers(nextCursor(bookings, size)).body(bookings);
     }
 
     @GetMapping("/owner")
-    public List<BookingResponseDto> findAllBookingsForOwnerOfItems(
+    public ResponseEntity<List<BookingResponseDto>> findAllBookingsForOwnerOfItems(
             @RequestHeader("X-Sharer-User-Id") Integer ownerId,
             @RequestParam(defaultValue = "all") BookingState state,
             @RequestParam(defaultValue = "0") Integer from,
-            @RequestParam(defaultValue = "10") Integer size
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(required = false) String cursor
     ) {
-        PageRequest pageRequest = new MyPageRequest(from, size, Sort.by(Sort.Direction.DESC, "start"));
-        return bookingService.findAllBookingsForOwnerOfItems(ownerId, state, pageRequest);
+        List<BookingResponseDto> bookings;
+        if (cursor == null) {
+            PageRequest pageRequest = new MyPageRequest(from, size, Sort.by(Sort.Direction.DESC, "start", "id"));
+            bookings = bookingService.findAllBookingsForOwnerOfItems(ownerId, state, pageRequest);
+        } else {
+            bookings = bookingService.findAllBookingsForOwnerOfItems(ownerId, state, PageCursor.decode(cursor), size);
+        }
+        return ResponseEntity.ok().headers(nextCursor(bookings, size)).body(bookings);
+    }
+
+    private static HttpHeaders nextCursor(List<BookingResponseDto> bookings, Integer size) {
+        HttpHeaders headers = new HttpHeaders();
+        if (!bookings.isEmpty() && bookings.size() == size) {
+            BookingResponseDto last = bookings.get(bookings.size() - 1);
+            headers.set(PageCursor.NEXT_CURSOR_HEADER, new PageCursor(last.getStart(), last.getId()).encode());
+        }
+        return headers;
     }
 }
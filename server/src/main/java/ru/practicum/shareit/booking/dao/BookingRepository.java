@@ -1,40 +1,229 @@
 package ru.practicum.shareit.booking.dao;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingItemPeriodView;
+import ru.practicum.shareit.booking.dto.BookingPeriodView;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingShortView;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.model.Booking;
-import ru.practicum.shareit.item.model.Item;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
 
-    Page<Booking> getBookingsByBookerIdOrderByStartDesc(Integer bookerId, PageRequest pageRequest);
+    String SELECT_BOOKING_RESPONSE = "select new ru.practicum.shareit.booking.dto.BookingResponseDto(" +
+            "b.id, it.id, it.name, b.booker.id, b.start, b.end, b.status) " +
+            "from Booking as b join b.item as it ";
 
-    Page<Booking> getBookingsByBookerIdAndStatusOrderByStartDesc(Integer bookerId, BookingStatus status, PageRequest pageRequest);
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(
+            Integer itemId,
+            BookingStatus status,
+            LocalDateTime end,
+            LocalDateTime start
+    );
 
-    Page<Booking> getBookingsByBookerIdAndEndBeforeOrderByStartDesc(Integer bookerId, LocalDateTime localDateTime, PageRequest pageRequest);
+    List<BookingPeriodView> findAllByItemIdAndStatusInAndStartBeforeAndEndAfter(
+            Integer itemId,
+            Collection<BookingStatus> statuses,
+            LocalDateTime end,
+            LocalDateTime start
+    );
 
-    Page<Booking> getBookingsByBookerIdAndStartAfterOrderByStartDesc(Integer bookerId, LocalDateTime localDateTime, PageRequest pageRequest);
+    @Query("select b.item.id as itemId, b.start as start, b.end as end " +
+            "from Booking as b " +
+            "where b.item.id in :itemIds and b.status = :status and b.start < :end and b.end > :start")
+    List<BookingItemPeriodView> findPeriodsForItems(
+            @Param("itemIds") Collection<Integer> itemIds,
+            @Param("status") BookingStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
 
-    @Query("select b from Booking as b where b.booker.id = ?1 and current_timestamp between b.start and b.end order by b.start desc")
-    Page<Booking> getBookingsByBookerIdAndCurrentOrderByStartDesc(Integer bookerId, PageRequest pageRequest);
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId order by b.start desc")
+    List<BookingResponseDto> getBookingsByBookerIdOrderByStartDesc(
+            @Param("bookerId") Integer bookerId,
+            PageRequest pageRequest
+    );
 
-    Booking findFirstByItemAndStatusAndStartBeforeOrderByStartDesc(Item item, BookingStatus status, LocalDateTime start);
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and b.status = :status order by b.start desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndStatusOrderByStartDesc(
+            @Param("bookerId") Integer bookerId,
+            @Param("status") BookingStatus status,
+            PageRequest pageRequest
+    );
 
-    Booking findFirstByItemAndStatusAndStartAfterOrderByStartAsc(Item item, BookingStatus status, LocalDateTime start);
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and b.end < :now order by b.start desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndEndBeforeOrderByStartDesc(
+            @Param("bookerId") Integer bookerId,
+            @Param("now") LocalDateTime now,
+            PageRequest pageRequest
+    );
 
-    Page<Booking> getBookingsByItem_OwnerIdOrderByStartDesc(Integer ownerId, PageRequest pageRequest);
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and b.start > :now order by b.start desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndStartAfterOrderByStartDesc(
+            @Param("bookerId") Integer bookerId,
+            @Param("now") LocalDateTime now,
+            PageRequest pageRequest
+    );
 
-    Page<Booking> getBookingsByItem_OwnerIdAndStatusOrderByStartDesc(Integer ownerId, BookingStatus status, PageRequest pageRequest);
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId " +
+            "and current_timestamp between b.start and b.end order by b.start desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndCurrentOrderByStartDesc(
+            @Param("bookerId") Integer bookerId,
+            PageRequest pageRequest
+    );
 
-    Page<Booking> getBookingsByItem_OwnerIdAndEndBeforeOrderByStartDesc(Integer ownerId, LocalDateTime localDateTime, PageRequest pageRequest);
+    @Query(value = "select b.item_id as itemId, b.id as id, b.booker_id as bookerId " +
+            "from (select bk.id, bk.item_id, bk.booker_id, " +
+            "row_number() over (partition by bk.item_id order by bk.start_date desc) as rn " +
+            "from bookings as bk " +
+            "where bk.item_id in (:itemIds) and bk.status = 'APPROVED' and bk.start_date < :now) as b " +
+            "where b.rn = 1", nativeQuery = true)
+    List<BookingShortView> findLastApprovedBookingsForItems(@Param("itemIds") Collection<Integer> itemIds,
+                                                           @Param("now") LocalDateTime now);
 
-    Page<Booking> getBookingsByItem_OwnerIdAndStartAfterOrderByStartDesc(Integer ownerId, LocalDateTime localDateTime, PageRequest pageRequest);
+    @Query(value = "select b.item_id as itemId, b.id as id, b.booker_id as bookerId " +
+            "from (select bk.id, bk.item_id, bk.booker_id, " +
+            "row_number() over (partition by bk.item_id order by bk.start_date asc) as rn " +
+            "from bookings as bk " +
+            "where bk.item_id in (:itemIds) and bk.status = 'APPROVED' and bk.start_date > :now) as b " +
+            "where b.rn = 1", nativeQuery = true)
+    List<BookingShortView> findNextApprovedBookingsForItems(@Param("itemIds") Collection<Integer> itemIds,
+                                                           @Param("now") LocalDateTime now);
 
-    @Query("select b from Booking as b where b.item.ownerId = ?1 and current_timestamp between b.start and b.end order by b.start desc")
-    Page<Booking> getBookingsByItem_OwnerIdAndCurrentOrderByStartDesc(Integer ownerId, PageRequest pageRequest);
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId order by b.start desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdOrderByStartDesc(
+            @Param("ownerId") Integer ownerId,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and b.status = :status order by b.start desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndStatusOrderByStartDesc(
+            @Param("ownerId") Integer ownerId,
+            @Param("status") BookingStatus status,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and b.end < :now order by b.start desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndEndBeforeOrderByStartDesc(
+            @Param("ownerId") Integer ownerId,
+            @Param("now") LocalDateTime now,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and b.start > :now order by b.start desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndStartAfterOrderByStartDesc(
+            @Param("ownerId") Integer ownerId,
+            @Param("now") LocalDateTime now,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId " +
+            "and current_timestamp between b.start and b.end order by b.start desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndCurrentOrderByStartDesc(
+            @Param("ownerId") Integer ownerId,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndCursor(
+            @Param("bookerId") Integer bookerId,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and b.status = :status " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndStatusAndCursor(
+            @Param("bookerId") Integer bookerId,
+            @Param("status") BookingStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and b.end < :now " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndEndBeforeAndCursor(
+            @Param("bookerId") Integer bookerId,
+            @Param("now") LocalDateTime now,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and b.start > :now " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndStartAfterAndCursor(
+            @Param("bookerId") Integer bookerId,
+            @Param("now") LocalDateTime now,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where b.booker.id = :bookerId and current_timestamp between b.start and b.end " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByBookerIdAndCurrentAndCursor(
+            @Param("bookerId") Integer bookerId,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndCursor(
+            @Param("ownerId") Integer ownerId,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and b.status = :status " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndStatusAndCursor(
+            @Param("ownerId") Integer ownerId,
+            @Param("status") BookingStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and b.end < :now " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndEndBeforeAndCursor(
+            @Param("ownerId") Integer ownerId,
+            @Param("now") LocalDateTime now,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and b.start > :now " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndStartAfterAndCursor(
+            @Param("ownerId") Integer ownerId,
+            @Param("now") LocalDateTime now,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
+
+    @Query(SELECT_BOOKING_RESPONSE + "where it.ownerId = :ownerId and current_timestamp between b.start and b.end " +
+            "and (b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<BookingResponseDto> getBookingsByItem_OwnerIdAndCurrentAndCursor(
+            @Param("ownerId") Integer ownerId,
+            @Param("start") LocalDateTime start,
+            @Param("id") Integer id,
+            PageRequest pageRequest
+    );
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.dao.UserRepository;
 import ru.practicum.shareit.user.dto.UserMapper;
 
@@ -19,9 +20,13 @@ public class BookingMapper {
     private final UserRepository userRepository;
 
     public Booking mapToBooking(BookingDto bookingDto, Integer userId) {
+        return mapToBooking(bookingDto, itemRepository.findById(bookingDto.getItemId()).orElseThrow(), userId);
+    }
+
+    public Booking mapToBooking(BookingDto bookingDto, Item item, Integer userId) {
         Booking booking = new Booking();
-        booking.setItem(itemRepository.findById(bookingDto.getItemId()).orElseThrow());
-        booking.setBooker(userRepository.findById(userId).orElseThrow());
+        booking.setItem(item);
+        booking.setBooker(userRepository.getReferenceById(userId));
         booking.setStart(bookingDto.getStart());
         booking.setEnd(bookingDto.getEnd());
         return booking;
@@ -30,7 +35,7 @@ public class BookingMapper {
     public BookingResponseDto mapToBookingResponseDto(Booking booking) {
         BookingResponseDto bookingResponseDto = new BookingResponseDto();
         bookingResponseDto.setId(booking.getId());
-        bookingResponseDto.setItem(ItemMapper.mapToItemShortDto(itemRepository.findById(booking.getItem().getId()).orElseThrow()));
+        bookingResponseDto.setItem(ItemMapper.mapToItemShortDto(booking.getItem()));
         bookingResponseDto.setBooker(UserMapper.mapToBookerDto(booking.getBooker().getId()));
         bookingResponseDto.setStart(booking.getStart());
         bookingResponseDto.setEnd(booking.getEnd());
@@ -56,4 +61,15 @@ public class BookingMapper {
             return bookingShortDto;
         }
     }
+
+    public BookingShortDto mapToBookingShortDto(BookingShortView booking) {
+        if (booking == null) {
+            return null;
+        } else {
+            BookingShortDto bookingShortDto = new BookingShortDto();
+            bookingShortDto.setId(booking.getId());
+            bookingShortDto.setBookerId(booking.getBookerId());
+            return bookingShortDto;
+        }
+    }
 }
@@ -27,4 +27,14 @@ public class BookingResponseDto {
     private LocalDateTime end;
 
     private BookingStatus status;
+
+    public BookingResponseDto(int id,
+                              int itemId,
+                              String itemName,
+                              int bookerId,
+                              LocalDateTime start,
+                              LocalDateTime end,
+                              BookingStatus status) {
+        this(id, new ItemShortDto(itemId, itemName), new BookerDto(bookerId), start, end, status);
+    }
 }
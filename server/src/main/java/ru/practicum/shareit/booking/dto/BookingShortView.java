@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking.dto;
+
+public interface BookingShortView {
+
+    Integer getItemId();
+
+    Integer getId();
+
+    Integer getBookerId();
+}
@@ -4,6 +4,7 @@ import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.util.PageCursor;
 
 import java.util.List;
 
@@ -11,6 +12,8 @@ public interface BookingService {
 
     BookingResponseDto addBooking(Integer userId, BookingDto bookingDto);
 
+    List<BookingResponseDto> addBookings(Integer userId, List<BookingDto> bookingDtoList);
+
     BookingResponseDto approveBooking(Integer userId, Integer bookingId, boolean approve);
 
     BookingResponseDto findBookingById(Integer userId, Integer bookingId);
@@ -18,4 +21,8 @@ public interface BookingService {
     List<BookingResponseDto> findAllBookingsForCurrentUser(Integer bookerId, BookingState bookingState, PageRequest pageRequest);
 
     List<BookingResponseDto> findAllBookingsForOwnerOfItems(Integer ownerId, BookingState state, PageRequest pageRequest);
+
+    List<BookingResponseDto> findAllBookingsForCurrentUser(Integer bookerId, BookingState state, PageCursor cursor, Integer size);
+
+    List<BookingResponseDto> findAllBookingsForOwnerOfItems(Integer ownerId, BookingState state, PageCursor cursor, Integer size);
 }
@@ -2,7 +2,7 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,17 +11,31 @@ import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingItemPeriodView;
+import ru.practicum.shareit.booking.dto.BookingPeriodView;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.exceptions.BookingBatchException;
+import ru.practicum.shareit.exceptions.BookingConflictException;
 import ru.practicum.shareit.exceptions.BookingStatusException;
 import ru.practicum.shareit.exceptions.ItemAvailableValidationException;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.util.PageCursor;
 import ru.practicum.shareit.util.Validation;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -29,6 +43,8 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
 
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final Validation validation;
@@ -37,7 +53,7 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     @Override
     public BookingResponseDto addBooking(Integer userId, BookingDto bookingDto) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         Item item = itemRepository.findById(bookingDto.getItemId()).orElseThrow(() -> new ValidationException(
                 "item with id " + bookingDto.getItemId() + " not found"
         ));
@@ -49,15 +65,64 @@ public class BookingServiceImpl implements BookingService {
             log.info("user with id = " + userId + "can't book his own item");
             throw new ValidationException("user with id = " + userId + " can't book his own item");
         }
+        validateNoApprovedOverlap(booking);
         Booking savedBooking = bookingRepository.save(booking);
         log.info("booking has been added");
         return bookingMapper.mapToBookingResponseDto(savedBooking);
     }
 
+    @Transactional
+    @Override
+    public List<BookingResponseDto> addBookings(Integer userId, List<BookingDto> bookingDtoList) {
+        if (bookingDtoList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (bookingDtoList.stream().anyMatch(Objects::isNull)) {
+            throw new BookingBatchException("batch must not contain null bookings");
+        }
+        validation.validateUserExists(userId);
+        Set<Integer> itemIds = bookingDtoList.stream()
+                .map(BookingDto::getItemId)
+                .collect(Collectors.toSet());
+        Map<Integer, Item> itemsById = itemRepository.findAllByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        LocalDateTime start = bookingDtoList.stream()
+                .map(BookingDto::getStart)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        LocalDateTime end = bookingDtoList.stream()
+                .map(BookingDto::getEnd)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        Map<Integer, List<BookingItemPeriodView>> approvedPeriodsByItemId = bookingRepository
+                .findPeriodsForItems(itemIds, BookingStatus.APPROVED, start, end).stream()
+                .collect(Collectors.groupingBy(BookingItemPeriodView::getItemId));
+        List<Booking> bookingList = new ArrayList<>();
+        for (BookingDto bookingDto : bookingDtoList) {
+            Item item = itemsById.get(bookingDto.getItemId());
+            if (item == null) {
+                throw new ValidationException("item with id " + bookingDto.getItemId() + " not found");
+            }
+            if (!item.getAvailable()) {
+                throw new ItemAvailableValidationException("item with id = " + item.getId() + " is not available now");
+            }
+            if (item.getOwnerId() == userId) {
+                log.info("user with id = " + userId + "can't book his own item");
+                throw new ValidationException("user with id = " + userId + " can't book his own item");
+            }
+            Booking booking = bookingMapper.mapToBooking(bookingDto, item, userId);
+            validateNoApprovedOverlap(booking, approvedPeriodsByItemId.getOrDefault(item.getId(), List.of()));
+            bookingList.add(booking);
+        }
+        List<Booking> savedBookings = bookingRepository.saveAll(bookingList);
+        log.info("{} bookings have been added", savedBookings.size());
+        return bookingMapper.mapToBookingResponseDto(savedBookings);
+    }
+
     @Override
     @Transactional
     public BookingResponseDto approveBooking(Integer userId, Integer bookingId, boolean approved) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new ValidationException(
                 "booking with id " + bookingId + " not found"
         ));
@@ -72,22 +137,35 @@ public class BookingServiceImpl implements BookingService {
                     "user with id = " + userId + " is not the owner for item with id = " + ownerOfItemId
             );
         }
-        if (approved) {
-            booking.setStatus(BookingStatus.APPROVED);
-        } else {
+        if (!approved) {
             booking.setStatus(BookingStatus.REJECTED);
+            return bookingMapper.mapToBookingResponseDto(bookingRepository.save(booking));
+        }
+        itemRepository.lockItemById(booking.getItem().getId());
+        validateNoApprovedOverlap(booking);
+        booking.setStatus(BookingStatus.APPROVED);
+        Booking approvedBooking;
+        try {
+            approvedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (!isApprovedOverlapViolation(e)) {
+                throw e;
+            }
+            log.info("booking with id = " + bookingId + " overlaps an approved booking");
+            throw new BookingConflictException(
+                    "item with id = " + booking.getItem().getId() + " is already booked for this period"
+            );
         }
-        Booking approvedBooking = bookingRepository.save(booking);
         return bookingMapper.mapToBookingResponseDto(approvedBooking);
     }
 
     @Override
     public BookingResponseDto findBookingById(Integer userId, Integer bookingId) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new ValidationException(
                 "booking with id " + bookingId + " not found"
         ));
-        int ownerOfItemId = itemRepository.findById(booking.getItem().getId()).orElseThrow().getOwnerId();
+        int ownerOfItemId = booking.getItem().getOwnerId();
         int authorOfBookingId = booking.getBooker().getId();
         if (ownerOfItemId == userId || authorOfBookingId == userId) {
             return bookingMapper.mapToBookingResponseDto(booking);
@@ -105,13 +183,8 @@ public class BookingServiceImpl implements BookingService {
             BookingState state,
             PageRequest pageRequest
     ) {
-        validation.validateUser(bookerId);
-        List<Booking> bookingList = getAllBookingsForCurrentUserWithDependenceOfState(
-                bookerId,
-                state,
-                pageRequest
-        ).toList();
-        return bookingMapper.mapToBookingResponseDto(bookingList);
+        validation.validateUserExists(bookerId);
+        return getAllBookingsForCurrentUserWithDependenceOfState(bookerId, state, pageRequest);
     }
 
     @Override
@@ -120,20 +193,33 @@ public class BookingServiceImpl implements BookingService {
             BookingState state,
             PageRequest pageRequest
     ) {
-        validation.validateUser(ownerId);
-        List<Booking> bookingList = getAllBookingsForItemsOfOwnerWithDependenceOfState(
-                ownerId,
-                state,
-                pageRequest
-        ).toList();
-        if (bookingList.isEmpty()) {
-            log.info("owner with id = " + ownerId + " doesn't have any items");
-            throw new ValidationException("owner with id = " + ownerId + " doesn't have any items");
-        }
-        return bookingMapper.mapToBookingResponseDto(bookingList);
+        validation.validateUserExists(ownerId);
+        return getAllBookingsForItemsOfOwnerWithDependenceOfState(ownerId, state, pageRequest);
+    }
+
+    @Override
+    public List<BookingResponseDto> findAllBookingsForCurrentUser(
+            Integer bookerId,
+            BookingState state,
+            PageCursor cursor,
+            Integer size
+    ) {
+        validation.validateUserExists(bookerId);
+        return getBookingsForCurrentUserAfterCursor(bookerId, state, cursor, PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<BookingResponseDto> findAllBookingsForOwnerOfItems(
+            Integer ownerId,
+            BookingState state,
+            PageCursor cursor,
+            Integer size
+    ) {
+        validation.validateUserExists(ownerId);
+        return getBookingsForItemsOfOwnerAfterCursor(ownerId, state, cursor, PageRequest.of(0, size));
     }
 
-    private Page<Booking> getAllBookingsForCurrentUserWithDependenceOfState(Integer bookerId,
+    private List<BookingResponseDto> getAllBookingsForCurrentUserWithDependenceOfState(Integer bookerId,
                                                                             BookingState state,
                                                                             PageRequest pageRequest) {
         switch (state) {
@@ -158,7 +244,7 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private Page<Booking> getAllBookingsForItemsOfOwnerWithDependenceOfState(Integer ownerId,
+    private List<BookingResponseDto> getAllBookingsForItemsOfOwnerWithDependenceOfState(Integer ownerId,
                                                                              BookingState state,
                                                                              PageRequest pageRequest) {
         switch (state) {
@@ -182,4 +268,92 @@ public class BookingServiceImpl implements BookingService {
                         .getBookingsByItem_OwnerIdOrderByStartDesc(ownerId, pageRequest);
         }
     }
+
+    private List<BookingResponseDto> getBookingsForCurrentUserAfterCursor(Integer bookerId,
+                                                               BookingState state,
+                                                               PageCursor cursor,
+                                                               PageRequest pageRequest) {
+        LocalDateTime start = cursor.getStart();
+        int id = cursor.getId();
+        switch (state) {
+            case WAITING:
+                return bookingRepository
+                        .getBookingsByBookerIdAndStatusAndCursor(bookerId, BookingStatus.WAITING, start, id, pageRequest);
+            case REJECTED:
+                return bookingRepository
+                        .getBookingsByBookerIdAndStatusAndCursor(bookerId, BookingStatus.REJECTED, start, id, pageRequest);
+            case FUTURE:
+                return bookingRepository
+                        .getBookingsByBookerIdAndStartAfterAndCursor(bookerId, LocalDateTime.now(), start, id, pageRequest);
+            case PAST:
+                return bookingRepository
+                        .getBookingsByBookerIdAndEndBeforeAndCursor(bookerId, LocalDateTime.now(), start, id, pageRequest);
+            case CURRENT:
+                return bookingRepository
+                        .getBookingsByBookerIdAndCurrentAndCursor(bookerId, start, id, pageRequest);
+            default:
+                return bookingRepository
+                        .getBookingsByBookerIdAndCursor(bookerId, start, id, pageRequest);
+        }
+    }
+
+    private List<BookingResponseDto> getBookingsForItemsOfOwnerAfterCursor(Integer ownerId,
+                                                                BookingState state,
+                                                                PageCursor cursor,
+                                                                PageRequest pageRequest) {
+        LocalDateTime start = cursor.getStart();
+        int id = cursor.getId();
+        switch (state) {
+            case WAITING:
+                return bookingRepository
+                        .getBookingsByItem_OwnerIdAndStatusAndCursor(ownerId, BookingStatus.WAITING, start, id, pageRequest);
+            case REJECTED:
+                return bookingRepository
+                        .getBookingsByItem_OwnerIdAndStatusAndCursor(ownerId, BookingStatus.REJECTED, start, id, pageRequest);
+            case FUTURE:
+                return bookingRepository
+                        .getBookingsByItem_OwnerIdAndStartAfterAndCursor(ownerId, LocalDateTime.now(), start, id, pageRequest);
+            case PAST:
+                return bookingRepository
+                        .getBookingsByItem_OwnerIdAndEndBeforeAndCursor(ownerId, LocalDateTime.now(), start, id, pageRequest);
+            case CURRENT:
+                return bookingRepository
+                        .getBookingsByItem_OwnerIdAndCurrentAndCursor(ownerId, start, id, pageRequest);
+            default:
+                return bookingRepository
+                        .getBookingsByItem_OwnerIdAndCursor(ownerId, start, id, pageRequest);
+        }
+    }
+
+    private static boolean isApprovedOverlapViolation(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException && EXCLUSION_VIOLATION.equals(((SQLException) cause).getSQLState());
+    }
+
+    private void validateNoApprovedOverlap(Booking booking) {
+        boolean overlaps = bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(
+                booking.getItem().getId(),
+                BookingStatus.APPROVED,
+                booking.getEnd(),
+                booking.getStart()
+        );
+        if (overlaps) {
+            log.info("item with id = " + booking.getItem().getId() + " is already booked for this period");
+            throw new BookingConflictException(
+                    "item with id = " + booking.getItem().getId() + " is already booked for this period"
+            );
+        }
+    }
+
+    private void validateNoApprovedOverlap(Booking booking, List<? extends BookingPeriodView> approvedPeriods) {
+        boolean overlaps = approvedPeriods.stream()
+                .anyMatch(period -> period.getStart().isBefore(booking.getEnd())
+                        && period.getEnd().isAfter(booking.getStart()));
+        if (overlaps) {
+            log.info("item with id = " + booking.getItem().getId() + " is already booked for this period");
+            throw new BookingConflictException(
+                    "item with id = " + booking.getItem().getId() + " is already booked for this period"
+            );
+        }
+    }
 }
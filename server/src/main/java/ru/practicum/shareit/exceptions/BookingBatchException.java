@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions;
+
+public class BookingBatchException extends RuntimeException {
+    public BookingBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions;
+
+public class NPlusOneQueryException extends RuntimeException {
+    public NPlusOneQueryException(String message) {
+        super(message);
+    }
+}
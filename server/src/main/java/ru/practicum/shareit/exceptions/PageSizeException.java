@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exceptions;
+
+public class PageSizeException extends RuntimeException {
+    public PageSizeException(String message) {
+        super(message);
+    }
+}
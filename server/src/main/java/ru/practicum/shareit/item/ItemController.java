@@ -3,12 +3,18 @@ package ru.practicum.shareit.item;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.util.MyPageRequest;
+import ru.practicum.shareit.util.PageCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -37,12 +43,33 @@ public class ItemController {
         return itemService.findItemById(userId, itemId);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto findItemAvailability(
+            @RequestHeader("X-Sharer-User-Id") Integer userId,
+            @PathVariable Integer itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return itemService.findItemAvailability(userId, itemId, from, to);
+    }
+
     @GetMapping
-    public List<ItemDto> findAllItemsForUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
-                                             @RequestParam(defaultValue = "0") Integer from,
-                                             @RequestParam(defaultValue = "10") Integer size) {
-        PageRequest pageRequest = new MyPageRequest(from, size, Sort.by("id").ascending());
-        return itemService.findAllItemsForUser(userId, pageRequest);
+    public ResponseEntity<List<ItemDto>> findAllItemsForUser(@RequestHeader("X-Sharer-User-Id") Integer userId,
+                                                             @RequestParam(defaultValue = "0") Integer from,
+                                                             @RequestParam(defaultValue = "10") Integer size,
+                                                             @RequestParam(required = false) String cursor) {
+        List<ItemDto> items;
+        if (cursor == null) {
+            PageRequest pageRequest = new MyPageRequest(from, size, Sort.by("id").ascending());
+            items = itemService.findAllItemsForUser(userId, pageRequest);
+        } else {
+            items = itemService.findAllItemsForUser(userId, PageCursor.decode(cursor), size);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        if (!items.isEmpty() && items.size() == size) {
+            headers.set(PageCursor.NEXT_CURSOR_HEADER, new PageCursor(items.get(items.size() - 1).getId()).encode());
+        }
+        return ResponseEntity.ok().headers(headers).body(items);
     }
 
     @GetMapping("/search")
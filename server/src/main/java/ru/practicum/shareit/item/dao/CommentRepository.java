@@ -1,7 +1,14 @@
 package ru.practicum.shareit.item.dao;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
+
+    @EntityGraph(attributePaths = {"author"})
+    List<Comment> findAllByItemIdIn(Collection<Integer> itemIds);
 }
@@ -1,23 +1,47 @@
 package ru.practicum.shareit.item.dao;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 public interface ItemRepository extends JpaRepository<Item, Integer> {
 
-    Page<Item> findAllByOwnerId(Integer ownerId, PageRequest pageRequest);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select it from Item as it where it.id = :id")
+    Optional<Item> lockItemById(@Param("id") Integer id);
+
+    @EntityGraph(attributePaths = {"request", "request.requester"})
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Item> findAllByOwnerId(Integer ownerId, PageRequest pageRequest);
+
+    @EntityGraph(attributePaths = {"request", "request.requester"})
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Item> findAllByOwnerIdAndIdGreaterThan(Integer ownerId, Integer id, PageRequest pageRequest);
+
+    @EntityGraph(attributePaths = {"request", "request.requester"})
+    List<Item> findAllByIdIn(Collection<Integer> ids);
+
+    List<Item> findAllByRequestIdIn(Collection<Integer> requestIds);
 
+    @EntityGraph(attributePaths = {"request", "request.requester"})
     @Query("select it " +
             "from Item as it " +
             "where (lower(it.name) like lower(concat('%', :text, '%')) " +
             "or lower(it.description) like lower(concat('%', :text, '%'))) and it.available = true")
-    Page<Item> findAllByAvailableIsTrueAndNameAndDescriptionContainingIgnoreCase(
+    List<Item> findAllByAvailableIsTrueAndNameAndDescriptionContainingIgnoreCase(
             @Param("text") String text,
             PageRequest pageRequest
     );
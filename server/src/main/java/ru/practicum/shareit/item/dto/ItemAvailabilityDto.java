@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemAvailabilityDto {
+
+    private int itemId;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private List<PeriodDto> busy;
+
+    private List<PeriodDto> free;
+}
@@ -1,19 +1,25 @@
 package ru.practicum.shareit.item.dto;
 
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class ItemMapper {
 
     public static ItemDto mapToItemDto(Item item) {
+        return mapToItemDto(item, item.getComments());
+    }
+
+    public static ItemDto mapToItemDto(Item item, Set<Comment> comments) {
         ItemDto itemDto = new ItemDto();
         itemDto.setId(item.getId());
         itemDto.setName(item.getName());
         itemDto.setDescription(item.getDescription());
         itemDto.setAvailable(item.getAvailable());
-        itemDto.setComments(CommentMapper.mapToCommentDto(item.getComments()));
+        itemDto.setComments(CommentMapper.mapToCommentDto(comments));
         if (item.getRequest() != null) {
             itemDto.setRequestId(item.getRequest().getId());
         }
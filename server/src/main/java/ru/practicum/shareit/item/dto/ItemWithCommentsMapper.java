@@ -0,0 +1,40 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ItemWithCommentsMapper {
+
+    private final CommentRepository commentRepository;
+
+    public List<ItemDto> mapToItemDto(List<Item> items) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        Map<Integer, Set<Comment>> commentsByItemId = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(), Collectors.toSet()));
+        List<ItemDto> itemDtoList = new ArrayList<>();
+        for (Item item : items) {
+            itemDtoList.add(ItemMapper.mapToItemDto(
+                    item,
+                    commentsByItemId.getOrDefault(item.getId(), Collections.emptySet())
+            ));
+        }
+        return itemDtoList;
+    }
+}
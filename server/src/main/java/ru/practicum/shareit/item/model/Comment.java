@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Integer id;
 
     private String text;
@@ -39,6 +40,6 @@ public class Comment {
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return id == null ? getClass().hashCode() : id.hashCode();
     }
 }
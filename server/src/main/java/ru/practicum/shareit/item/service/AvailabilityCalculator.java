@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.booking.dto.BookingPeriodView;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.PeriodDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class AvailabilityCalculator {
+
+    public static ItemAvailabilityDto calculate(int itemId,
+                                                LocalDateTime from,
+                                                LocalDateTime to,
+                                                List<? extends BookingPeriodView> bookings) {
+        List<PeriodDto> busy = mergeBusyPeriods(from, to, bookings);
+        return new ItemAvailabilityDto(itemId, from, to, busy, findFreePeriods(from, to, busy));
+    }
+
+    public static List<PeriodDto> mergeBusyPeriods(LocalDateTime from,
+                                                   LocalDateTime to,
+                                                   List<? extends BookingPeriodView> bookings) {
+        List<BookingPeriodView> sortedBookings = new ArrayList<>(bookings);
+        sortedBookings.sort(Comparator.comparing(BookingPeriodView::getStart));
+        List<PeriodDto> busy = new ArrayList<>();
+        PeriodDto current = null;
+        for (BookingPeriodView booking : sortedBookings) {
+            LocalDateTime start = booking.getStart().isBefore(from) ? from : booking.getStart();
+            LocalDateTime end = booking.getEnd().isAfter(to) ? to : booking.getEnd();
+            if (!start.isBefore(end)) {
+                continue;
+            }
+            if (current != null && !start.isAfter(current.getEnd())) {
+                if (end.isAfter(current.getEnd())) {
+                    current.setEnd(end);
+                }
+            } else {
+                current = new PeriodDto(start, end);
+                busy.add(current);
+            }
+        }
+        return busy;
+    }
+
+    public static List<PeriodDto> findFreePeriods(LocalDateTime from, LocalDateTime to, List<PeriodDto> busy) {
+        List<PeriodDto> free = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (PeriodDto period : busy) {
+            if (freeFrom.isBefore(period.getStart())) {
+                free.add(new PeriodDto(freeFrom, period.getStart()));
+            }
+            freeFrom = period.getEnd();
+        }
+        if (freeFrom.isBefore(to)) {
+            free.add(new PeriodDto(freeFrom, to));
+        }
+        return free;
+    }
+}
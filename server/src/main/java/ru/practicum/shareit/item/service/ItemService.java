@@ -2,8 +2,11 @@ package ru.practicum.shareit.item.service;
 
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.util.PageCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
@@ -14,8 +17,12 @@ public interface ItemService {
 
     ItemDto findItemById(Integer userId, Integer itemId);
 
+    ItemAvailabilityDto findItemAvailability(Integer userId, Integer itemId, LocalDateTime from, LocalDateTime to);
+
     List<ItemDto> findAllItemsForUser(Integer userId, PageRequest pageRequest);
 
+    List<ItemDto> findAllItemsForUser(Integer userId, PageCursor cursor, Integer size);
+
     List<ItemDto> searchItemsByText(String text, PageRequest pageRequest);
 
     CommentDto addComment(Integer userId, Integer itemId, CommentDto commentDto);
@@ -2,13 +2,14 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dao.BookingRepository;
 import ru.practicum.shareit.booking.dto.BookingMapper;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingPeriodView;
+import ru.practicum.shareit.booking.dto.BookingShortView;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.exceptions.UserDidNotBookTheItemException;
 import ru.practicum.shareit.exceptions.ValidationException;
@@ -16,18 +17,24 @@ import ru.practicum.shareit.item.dao.CommentRepository;
 import ru.practicum.shareit.item.dao.ItemRepository;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.CommentMapper;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemWithCommentsMapper;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dao.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.PageCursor;
 import ru.practicum.shareit.util.Validation;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -40,12 +47,13 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final Validation validation;
     private final BookingMapper bookingMapper;
+    private final ItemWithCommentsMapper itemWithCommentsMapper;
     private final ItemRequestRepository itemRequestRepository;
 
     @Transactional
     @Override
     public ItemDto addItem(Integer userId, ItemDto itemDto) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         Item item = ItemMapper.mapToItem(itemDto, userId);
         if (itemDto.getRequestId() != null) {
             item.setRequest(itemRequestRepository.findById(itemDto.getRequestId()).orElseThrow(
@@ -60,7 +68,7 @@ public class ItemServiceImpl implements ItemService {
     @Transactional
     @Override
     public ItemDto updateItem(Integer userId, Integer itemId, ItemDto itemDto) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         Item itemFromRepository = itemRepository.findById(itemId).orElseThrow(() -> new ValidationException(
                 "item with id " + itemId + " not found"
         ));
@@ -87,23 +95,52 @@ public class ItemServiceImpl implements ItemService {
     @Transactional
     @Override
     public ItemDto findItemById(Integer userId, Integer itemId) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         Item item = itemRepository.findById(itemId).orElseThrow(() -> new ValidationException(
                 "item with id " + itemId + " not found"
         ));
-        ItemDto itemDto = setNextAndLastBookingForItem(item, LocalDateTime.now(), userId);
+        ItemDto itemDto = mapToItemDtoWithBookings(List.of(item), LocalDateTime.now(), userId).get(0);
         log.info("item has been found");
         return itemDto;
     }
 
     @Override
-    public List<ItemDto> findAllItemsForUser(Integer userId, PageRequest pageRequest) {
-        validation.validateUser(userId);
-        Page<Item> itemList = itemRepository.findAllByOwnerId(userId, pageRequest);
-        List<ItemDto> itemDtoList = new ArrayList<>();
-        for (Item item : itemList) {
-            itemDtoList.add(setNextAndLastBookingForItem(item, LocalDateTime.now(), userId));
+    public ItemAvailabilityDto findItemAvailability(Integer userId,
+                                                    Integer itemId,
+                                                    LocalDateTime from,
+                                                    LocalDateTime to) {
+        validation.validateUserExists(userId);
+        if (!itemRepository.existsById(itemId)) {
+            throw new ValidationException("item with id " + itemId + " not found");
         }
+        List<BookingPeriodView> bookings = bookingRepository.findAllByItemIdAndStatusInAndStartBeforeAndEndAfter(
+                itemId,
+                List.of(BookingStatus.APPROVED, BookingStatus.WAITING),
+                to,
+                from
+        );
+        log.info("availability of item with id = {} has been calculated from {} bookings", itemId, bookings.size());
+        return AvailabilityCalculator.calculate(itemId, from, to, bookings);
+    }
+
+    @Override
+    public List<ItemDto> findAllItemsForUser(Integer userId, PageRequest pageRequest) {
+        validation.validateUserExists(userId);
+        List<Item> itemList = itemRepository.findAllByOwnerId(userId, pageRequest);
+        List<ItemDto> itemDtoList = mapToItemDtoWithBookings(itemList, LocalDateTime.now(), userId);
+        log.info("items has been found");
+        return itemDtoList;
+    }
+
+    @Override
+    public List<ItemDto> findAllItemsForUser(Integer userId, PageCursor cursor, Integer size) {
+        validation.validateUserExists(userId);
+        List<Item> itemList = itemRepository.findAllByOwnerIdAndIdGreaterThan(
+                userId,
+                cursor.getId(),
+                PageRequest.of(0, size, Sort.by("id").ascending())
+        );
+        List<ItemDto> itemDtoList = mapToItemDtoWithBookings(itemList, LocalDateTime.now(), userId);
         log.info("items has been found");
         return itemDtoList;
     }
@@ -113,12 +150,13 @@ public class ItemServiceImpl implements ItemService {
         if (text.isBlank()) {
             return Collections.emptyList();
         }
-        Page<Item> itemList = itemRepository.findAllByAvailableIsTrueAndNameAndDescriptionContainingIgnoreCase(
+        List<Item> itemList = itemRepository.findAllByAvailableIsTrueAndNameAndDescriptionContainingIgnoreCase(
                 text,
                 pageRequest
         );
+        List<ItemDto> itemDtoList = itemWithCommentsMapper.mapToItemDto(itemList);
         log.info("items has been found by text " + text);
-        return ItemMapper.mapToItemDto(itemList);
+        return itemDtoList;
     }
 
     @Transactional
@@ -142,20 +180,29 @@ public class ItemServiceImpl implements ItemService {
         return CommentMapper.mapToCommentDto(saveComment);
     }
 
-    private ItemDto setNextAndLastBookingForItem(Item item, LocalDateTime localDateTime, Integer userId) {
-        Booking nextBooking = bookingRepository.findFirstByItemAndStatusAndStartAfterOrderByStartAsc(
-                item,
-                BookingStatus.APPROVED,
-                localDateTime);
-        Booking lastBooking = bookingRepository.findFirstByItemAndStatusAndStartBeforeOrderByStartDesc(
-                item,
-                BookingStatus.APPROVED,
-                localDateTime);
-        ItemDto itemDto = ItemMapper.mapToItemDto(item);
-        if (item.getOwnerId() == userId) {
-            itemDto.setNextBooking(bookingMapper.mapToBookingShortDto(nextBooking));
-            itemDto.setLastBooking(bookingMapper.mapToBookingShortDto(lastBooking));
+    private List<ItemDto> mapToItemDtoWithBookings(List<Item> items, LocalDateTime localDateTime, Integer userId) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
         }
-        return itemDto;
+        List<Integer> ownItemIds = items.stream()
+                .filter(item -> item.getOwnerId() == userId)
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        Map<Integer, BookingShortView> nextBookings = new HashMap<>();
+        Map<Integer, BookingShortView> lastBookings = new HashMap<>();
+        if (!ownItemIds.isEmpty()) {
+            for (BookingShortView booking : bookingRepository.findNextApprovedBookingsForItems(ownItemIds, localDateTime)) {
+                nextBookings.put(booking.getItemId(), booking);
+            }
+            for (BookingShortView booking : bookingRepository.findLastApprovedBookingsForItems(ownItemIds, localDateTime)) {
+                lastBookings.put(booking.getItemId(), booking);
+            }
+        }
+        List<ItemDto> itemDtoList = itemWithCommentsMapper.mapToItemDto(items);
+        for (ItemDto itemDto : itemDtoList) {
+            itemDto.setNextBooking(bookingMapper.mapToBookingShortDto(nextBookings.get(itemDto.getId())));
+            itemDto.setLastBooking(bookingMapper.mapToBookingShortDto(lastBookings.get(itemDto.getId())));
+        }
+        return itemDtoList;
     }
 }
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.exceptions.NPlusOneQueryException;
+
+import java.util.regex.Pattern;
+
+@Slf4j
+@RequiredArgsConstructor
+public class NPlusOneDetector {
+
+    private static final String APPLICATION_PACKAGE = "ru.practicum.shareit.";
+    private static final String METRICS_PACKAGE = "ru.practicum.shareit.metrics.";
+    private static final Pattern SELECT = Pattern.compile("^\\s*select\\s", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SEQUENCE_CALL = Pattern.compile("nextval|next value for", Pattern.CASE_INSENSITIVE);
+    private static final Pattern IN_LIST = Pattern.compile("in \\(\\?(, ?\\?)*\\)", Pattern.CASE_INSENSITIVE);
+
+    private final NPlusOneProperties properties;
+
+    public static boolean isTracked(String sql) {
+        return SELECT.matcher(sql).find() && !SEQUENCE_CALL.matcher(sql).find();
+    }
+
+    public static String shapeOf(String sql) {
+        return IN_LIST.matcher(sql).replaceAll("in (?)");
+    }
+
+    public void check(String shape, int repetitions) {
+        if (properties.getMode() == NPlusOneProperties.Mode.OFF || repetitions != properties.getThreshold()) {
+            return;
+        }
+        String callSite = findCallSite();
+        if (properties.getMode() == NPlusOneProperties.Mode.FAIL) {
+            throw new NPlusOneQueryException("statement repeated " + repetitions + " times at " + callSite + ": " + shape);
+        }
+        log.warn("n+1 query suspected: request=\"{}\" callSite={} repetitions={} sql=\"{}\"",
+                QueryCounter.getRequest(), callSite, repetitions, shape);
+    }
+
+    private static String findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> !frame.getClassName().startsWith(METRICS_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .findFirst()
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("shareit.n-plus-one")
+public class NPlusOneProperties {
+
+    private Mode mode = Mode.WARN;
+
+    private int threshold = 3;
+
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.metrics;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+public class QueryCountCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object queries = request.getAttribute(QueryCountFilter.QUERIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (queries != null) {
+            QueryCounter.resume((QueryCounter.RequestQueries) queries);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        QueryCounter.clear();
+    }
+}
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERIES_ATTRIBUTE = QueryCountFilter.class.getName() + ".QUERIES";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${shareit.query-count.header-enabled}")
+    private boolean headerEnabled;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter.RequestQueries queries = (QueryCounter.RequestQueries) request.getAttribute(QUERIES_ATTRIBUTE);
+        if (isAsyncDispatch(request) && queries != null) {
+            QueryCounter.resume(queries);
+        } else {
+            request.setAttribute(QUERIES_ATTRIBUTE, QueryCounter.start(request.getMethod() + " " + request.getRequestURI()));
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = QueryCounter.get();
+            QueryCounter.clear();
+            if (!request.isAsyncStarted()) {
+                if (headerEnabled && !response.isCommitted()) {
+                    response.setHeader(QUERY_COUNT_HEADER, String.valueOf(count));
+                }
+                DistributionSummary.builder("http.server.requests.queries")
+                        .description("SQL statements executed while handling a request")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri(request))
+                        .register(meterRegistry)
+                        .record(count);
+            }
+        }
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
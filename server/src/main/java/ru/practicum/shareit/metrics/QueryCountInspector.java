@@ -0,0 +1,21 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+@RequiredArgsConstructor
+public class QueryCountInspector implements StatementInspector {
+
+    private final NPlusOneDetector nPlusOneDetector;
+
+    @Override
+    public String inspect(String sql) {
+        if (!NPlusOneDetector.isTracked(sql)) {
+            QueryCounter.increment();
+            return sql;
+        }
+        String shape = NPlusOneDetector.shapeOf(sql);
+        nPlusOneDetector.check(shape, QueryCounter.increment(shape));
+        return sql;
+    }
+}
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class QueryCounter {
+
+    private static final ThreadLocal<RequestQueries> QUERIES = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static RequestQueries start(String request) {
+        RequestQueries queries = new RequestQueries(request);
+        QUERIES.set(queries);
+        return queries;
+    }
+
+    public static void resume(RequestQueries queries) {
+        QUERIES.set(queries);
+    }
+
+    public static void increment() {
+        RequestQueries queries = QUERIES.get();
+        if (queries != null) {
+            queries.count++;
+        }
+    }
+
+    public static int increment(String shape) {
+        RequestQueries queries = QUERIES.get();
+        if (queries == null) {
+            return 0;
+        }
+        queries.count++;
+        return queries.shapes.merge(shape, 1, Integer::sum);
+    }
+
+    public static boolean isActive() {
+        return QUERIES.get() != null;
+    }
+
+    public static int get() {
+        RequestQueries queries = QUERIES.get();
+        return queries == null ? 0 : queries.count;
+    }
+
+    public static String getRequest() {
+        RequestQueries queries = QUERIES.get();
+        return queries == null ? null : queries.request;
+    }
+
+    public static void clear() {
+        QUERIES.remove();
+    }
+
+    public static class RequestQueries {
+
+        private final String request;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int count;
+
+        private RequestQueries(String request) {
+            this.request = request;
+        }
+    }
+}
@@ -3,10 +3,13 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.util.MyPageRequest;
+import ru.practicum.shareit.util.PageCursor;
 
 import java.util.List;
 
@@ -32,11 +35,22 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> findAllRequests(@RequestHeader("X-Sharer-User-Id") Integer userId,
-                                                @RequestParam(defaultValue = "0") Integer from,
-                                                @RequestParam(defaultValue = "10") Integer size) {
-        PageRequest pageRequest = new MyPageRequest(from, size, Sort.by("id").ascending());
-        return itemRequestService.findAllRequests(userId, pageRequest);
+    public ResponseEntity<List<ItemRequestDto>> findAllRequests(@RequestHeader("X-Sharer-User-Id") Integer userId,
+                                                                @RequestParam(defaultValue = "0") Integer from,
+                                                                @RequestParam(defaultValue = "10") Integer size,
+                                                                @RequestParam(required = false) String cursor) {
+        List<ItemRequestDto> requests;
+        if (cursor == null) {
+            PageRequest pageRequest = new MyPageRequest(from, size, Sort.by("id").ascending());
+            requests = itemRequestService.findAllRequests(userId, pageRequest);
+        } else {
+            requests = itemRequestService.findAllRequests(userId, PageCursor.decode(cursor), size);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        if (!requests.isEmpty() && requests.size() == size) {
+            headers.set(PageCursor.NEXT_CURSOR_HEADER, new PageCursor(requests.get(requests.size() - 1).getId()).encode());
+        }
+        return ResponseEntity.ok().headers(headers).body(requests);
     }
 
     @GetMapping("/{requestId}")
@@ -1,13 +1,20 @@
 package ru.practicum.shareit.request.dao;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.request.model.ItemRequest;
 
+import java.util.List;
+
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Integer> {
 
-    Page<ItemRequest> findItemRequestByRequesterId(Integer userId, PageRequest pageRequest);
+    @EntityGraph(attributePaths = {"requester"})
+    List<ItemRequest> findItemRequestByRequesterId(Integer userId, PageRequest pageRequest);
+
+    @EntityGraph(attributePaths = {"requester"})
+    List<ItemRequest> findItemRequestByRequesterIdIsNot(Integer userId, PageRequest pageRequest);
 
-    Page<ItemRequest> findItemRequestByRequesterIdIsNot(Integer userId, PageRequest pageRequest);
+    @EntityGraph(attributePaths = {"requester"})
+    List<ItemRequest> findItemRequestByRequesterIdIsNotAndIdGreaterThan(Integer userId, Integer id, PageRequest pageRequest);
 }
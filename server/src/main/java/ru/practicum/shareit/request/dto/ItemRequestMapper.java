@@ -1,16 +1,15 @@
 package ru.practicum.shareit.request.dto;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.dao.UserRepository;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -21,25 +20,21 @@ public class ItemRequestMapper {
     public ItemRequest mapToItemRequest(ItemRequestDto itemRequestDto, Integer userId) {
         ItemRequest itemRequest = new ItemRequest();
         itemRequest.setDescription(itemRequestDto.getDescription());
-        itemRequest.setRequester(userRepository.findById(userId).orElseThrow());
+        itemRequest.setRequester(userRepository.getReferenceById(userId));
         itemRequest.setItems(Collections.emptySet());
         return itemRequest;
     }
 
     public ItemRequestDto mapToItemRequestDto(ItemRequest itemRequest) {
+        return mapToItemRequestDto(itemRequest, new HashSet<>(ItemMapper.mapToItemDto(itemRequest.getItems())));
+    }
+
+    public ItemRequestDto mapToItemRequestDto(ItemRequest itemRequest, Set<ItemDto> items) {
         ItemRequestDto itemRequestDto = new ItemRequestDto();
         itemRequestDto.setId(itemRequest.getId());
         itemRequestDto.setDescription(itemRequest.getDescription());
         itemRequestDto.setCreated(itemRequest.getCreated());
-        itemRequestDto.setItems(new HashSet<>(ItemMapper.mapToItemDto(itemRequest.getItems())));
+        itemRequestDto.setItems(items);
         return itemRequestDto;
     }
-
-    public List<ItemRequestDto> mapToItemRequestDto(Page<ItemRequest> itemRequests) {
-        List<ItemRequestDto> itemRequestDtos = new ArrayList<>();
-        for (ItemRequest itemRequest : itemRequests) {
-            itemRequestDtos.add(mapToItemRequestDto(itemRequest));
-        }
-        return  itemRequestDtos;
-    }
 }
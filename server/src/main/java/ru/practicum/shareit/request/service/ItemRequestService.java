@@ -2,6 +2,7 @@ package ru.practicum.shareit.request.service;
 
 import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.util.PageCursor;
 
 import java.util.List;
 
@@ -13,5 +14,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> findAllRequests(Integer userId, PageRequest pageRequest);
 
+    List<ItemRequestDto> findAllRequests(Integer userId, PageCursor cursor, Integer size);
+
     ItemRequestDto findById(Integer userId, Integer requestId);
 }
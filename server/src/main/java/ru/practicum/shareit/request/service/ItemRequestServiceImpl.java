@@ -2,20 +2,30 @@ package ru.practicum.shareit.request.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.ValidationException;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemWithCommentsMapper;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.request.dao.ItemRequestRepository;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
-import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.util.PageCursor;
 import ru.practicum.shareit.util.Validation;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +36,12 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     private final Validation validation;
     private final ItemRequestMapper itemRequestMapper;
     private final ItemRequestRepository itemRequestRepository;
-    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemWithCommentsMapper itemWithCommentsMapper;
 
     @Override
     public ItemRequestDto addRequest(Integer userId, ItemRequestDto itemRequestDto) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         ItemRequest itemRequest = itemRequestMapper.mapToItemRequest(itemRequestDto, userId);
         ItemRequest savedRequest = itemRequestRepository.save(itemRequest);
         log.info("itemrequest has been added");
@@ -40,34 +51,63 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> findRequestsOfUser(Integer userId, PageRequest pageRequest) {
-        validation.validateUser(userId);
-        if (userRepository.findById(userId).orElseThrow().getRequests().isEmpty()) {
-            return Collections.emptyList();
-        }
-        Page<ItemRequest> itemRequestList = itemRequestRepository.findItemRequestByRequesterId(
+        validation.validateUserExists(userId);
+        List<ItemRequest> itemRequestList = itemRequestRepository.findItemRequestByRequesterId(
                 userId, pageRequest);
         log.info("requests for user with id={} have been found", userId);
-        return itemRequestMapper.mapToItemRequestDto(itemRequestList);
+        return mapToItemRequestDtoWithItems(itemRequestList);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ItemRequestDto> findAllRequests(Integer userId, PageRequest pageRequest) {
-        validation.validateUser(userId);
-        Page<ItemRequest> itemRequestList = itemRequestRepository.findItemRequestByRequesterIdIsNot(
+        validation.validateUserExists(userId);
+        List<ItemRequest> itemRequestList = itemRequestRepository.findItemRequestByRequesterIdIsNot(
                 userId, pageRequest);
         log.info("all requests without requests for user with id={} have been found", userId);
-        return itemRequestMapper.mapToItemRequestDto(itemRequestList);
+        return mapToItemRequestDtoWithItems(itemRequestList);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItemRequestDto> findAllRequests(Integer userId, PageCursor cursor, Integer size) {
+        validation.validateUserExists(userId);
+        List<ItemRequest> itemRequestList = itemRequestRepository.findItemRequestByRequesterIdIsNotAndIdGreaterThan(
+                userId, cursor.getId(), PageRequest.of(0, size, Sort.by("id").ascending()));
+        log.info("all requests without requests for user with id={} have been found", userId);
+        return mapToItemRequestDtoWithItems(itemRequestList);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemRequestDto findById(Integer userId, Integer requestId) {
-        validation.validateUser(userId);
+        validation.validateUserExists(userId);
         ItemRequest itemRequest = itemRequestRepository.findById(requestId).orElseThrow(
                 () -> new ValidationException("request with id " + requestId + " not found")
         );
         log.info("request with id={} has been found", requestId);
-        return itemRequestMapper.mapToItemRequestDto(itemRequest);
+        return mapToItemRequestDtoWithItems(List.of(itemRequest)).get(0);
+    }
+
+    private List<ItemRequestDto> mapToItemRequestDtoWithItems(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> requestIds = itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList());
+        List<Item> items = itemRepository.findAllByRequestIdIn(requestIds);
+        Map<Integer, Set<ItemDto>> itemsByRequestId = new HashMap<>();
+        for (ItemDto itemDto : itemWithCommentsMapper.mapToItemDto(items)) {
+            itemsByRequestId.computeIfAbsent(itemDto.getRequestId(), id -> new HashSet<>()).add(itemDto);
+        }
+        List<ItemRequestDto> itemRequestDtoList = new ArrayList<>();
+        for (ItemRequest itemRequest : itemRequests) {
+            itemRequestDtoList.add(itemRequestMapper.mapToItemRequestDto(
+                    itemRequest,
+                    itemsByRequestId.getOrDefault(itemRequest.getId(), Collections.emptySet())
+            ));
+        }
+        return itemRequestDtoList;
     }
 }
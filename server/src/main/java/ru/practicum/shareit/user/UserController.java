@@ -1,10 +1,19 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.exceptions.PageSizeException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.MyPageRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -12,7 +21,10 @@ import java.util.List;
 @RequestMapping(path = "/users")
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public UserDto addUser(@RequestBody UserDto userDto) {
@@ -30,8 +42,27 @@ public class UserController {
     }
 
     @GetMapping
-    public List<UserDto> findAllUsers() {
-        return userService.findAllUsers();
+    public List<UserDto> findAllUsers(
+            @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam(defaultValue = "10") Integer size
+    ) {
+        if (size > MAX_PAGE_SIZE) {
+            throw new PageSizeException("size must not exceed " + MAX_PAGE_SIZE + ", use /users/export to read all users");
+        }
+        return userService.findAllUsers(new MyPageRequest(from, size, Sort.by("id")));
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportAllUsers() {
+        StreamingResponseBody body = outputStream -> userService.exportAllUsers(userDto -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(userDto));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @DeleteMapping("/{userId}")
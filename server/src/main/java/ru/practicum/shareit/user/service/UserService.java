@@ -1,8 +1,10 @@
 package ru.practicum.shareit.user.service;
 
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -12,7 +14,9 @@ public interface UserService {
 
     UserDto findUserById(Integer userId);
 
-    List<UserDto> findAllUsers();
+    List<UserDto> findAllUsers(PageRequest pageRequest);
+
+    void exportAllUsers(Consumer<UserDto> consumer);
 
     void deleteUserById(Integer userId);
 }
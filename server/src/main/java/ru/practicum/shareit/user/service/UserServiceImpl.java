@@ -2,6 +2,8 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.user.dao.UserRepository;
@@ -10,7 +12,10 @@ import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.util.Validation;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -30,6 +35,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = Validation.USERS_CACHE, key = "#userId")
     public UserDto updateUser(Integer userId, UserDto userDto) {
         User userFromRepository = validation.validateUser(userId);
         if (userDto.getEmail() == null) {
@@ -52,13 +58,26 @@ public class UserServiceImpl implements UserService {
         return userDto;
     }
 
-    public List<UserDto> findAllUsers() {
-        List<UserDto> userDtoList = UserMapper.mapToUserDto(userRepository.findAll());
-        log.info("amount of users: {}", userRepository.findAll().size());
+    public List<UserDto> findAllUsers(PageRequest pageRequest) {
+        List<UserDto> userDtoList = UserMapper.mapToUserDto(userRepository.findAllBy(pageRequest));
+        log.info("amount of users: {}", userDtoList.size());
         return userDtoList;
     }
 
+    public void exportAllUsers(Consumer<UserDto> consumer) {
+        long count = 0;
+        try (Stream<UserDto> users = userRepository.streamAllUsers()) {
+            Iterator<UserDto> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        log.info("amount of exported users: {}", count);
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = Validation.USERS_CACHE, key = "#userId")
     public void deleteUserById(Integer userId) {
         userRepository.deleteById(userId);
         log.info("user with id={} has been deleted", userId);
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.util;
+
+import lombok.Getter;
+import ru.practicum.shareit.exceptions.PageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+public class PageCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime start;
+
+    private final int id;
+
+    public PageCursor(LocalDateTime start, int id) {
+        this.start = start;
+        this.id = id;
+    }
+
+    public PageCursor(int id) {
+        this(null, id);
+    }
+
+    public String encode() {
+        String value = start == null ? String.valueOf(id) : start + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return new PageCursor(Integer.parseInt(value));
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Integer.parseInt(value.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PageCursorException("invalid cursor " + cursor);
+        }
+    }
+
+    public LocalDateTime getStart() {
+        if (start == null) {
+            throw new PageCursorException("cursor doesn't contain start date");
+        }
+        return start;
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.exceptions.ValidationException;
 import ru.practicum.shareit.user.dao.UserRepository;
@@ -12,6 +13,8 @@ import ru.practicum.shareit.user.model.User;
 @RequiredArgsConstructor
 public class Validation {
 
+    public static final String USERS_CACHE = "users";
+
     private final UserRepository userRepository;
 
     public User validateUser(Integer userId) {
@@ -19,4 +22,12 @@ public class Validation {
                 () -> new ValidationException("user with id " + userId + " not found")
         );
     }
+
+    @Cacheable(USERS_CACHE)
+    public boolean validateUserExists(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ValidationException("user with id " + userId + " not found");
+        }
+        return true;
+    }
 }
@@ -1,9 +1,3 @@
-drop table if exists users cascade;
-drop table if exists items cascade;
-drop table if exists bookings cascade;
-drop table if exists comments cascade;
-drop table if exists item_requests cascade;
-
 CREATE TABLE IF NOT EXISTS users
 (
     id    INT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
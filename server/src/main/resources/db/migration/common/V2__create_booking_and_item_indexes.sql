@@ -0,0 +1,5 @@
+create index if not exists ix_bookings_booker_start on bookings (booker_id, start_date desc);
+create index if not exists ix_bookings_item_status_start on bookings (item_id, status, start_date);
+create index if not exists ix_items_owner on items (owner_id);
+create index if not exists ix_item_requests_requester on item_requests (requester_id);
+create index if not exists ix_comments_item on comments (item_id);
@@ -0,0 +1,4 @@
+create sequence if not exists users_seq start with 1 increment by 50;
+create sequence if not exists items_seq start with 1 increment by 50;
+create sequence if not exists item_requests_seq start with 1 increment by 50;
+create sequence if not exists comments_seq start with 1 increment by 50;
@@ -0,0 +1,4 @@
+create extension if not exists pg_trgm;
+
+create index if not exists ix_items_name_trgm on items using gin (lower(name) gin_trgm_ops);
+create index if not exists ix_items_description_trgm on items using gin (lower(description) gin_trgm_ops);
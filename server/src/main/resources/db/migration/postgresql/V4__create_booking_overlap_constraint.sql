@@ -0,0 +1,6 @@
+create extension if not exists btree_gist;
+
+alter table bookings
+    add constraint ex_bookings_item_approved_period
+        exclude using gist (item_id with =, tsrange(start_date, end_date) with &&)
+        where (status = 'APPROVED');
@@ -0,0 +1 @@
+select setval('bookings_seq', coalesce((select max(id) from bookings), 0) + 50, false);
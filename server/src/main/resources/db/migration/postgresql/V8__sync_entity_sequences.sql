@@ -0,0 +1,4 @@
+select setval('users_seq', coalesce((select max(id) from users), 0) + 50, false);
+select setval('items_seq', coalesce((select max(id) from items), 0) + 50, false);
+select setval('item_requests_seq', coalesce((select max(id) from item_requests), 0) + 50, false);
+select setval('comments_seq', coalesce((select max(id) from comments), 0) + 50, false);
@@ -0,0 +1,19 @@
+alter table users alter column id drop identity if exists;
+alter table users alter column id set default nextval('users_seq');
+alter sequence users_seq owned by users.id;
+
+alter table item_requests alter column id drop identity if exists;
+alter table item_requests alter column id set default nextval('item_requests_seq');
+alter sequence item_requests_seq owned by item_requests.id;
+
+alter table items alter column id drop identity if exists;
+alter table items alter column id set default nextval('items_seq');
+alter sequence items_seq owned by items.id;
+
+alter table bookings alter column id drop identity if exists;
+alter table bookings alter column id set default nextval('bookings_seq');
+alter sequence bookings_seq owned by bookings.id;
+
+alter table comments alter column id drop identity if exists;
+alter table comments alter column id set default nextval('comments_seq');
+alter sequence comments_seq owned by comments.id;
@@ -0,0 +1,55 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityIdentityTest {
+
+    static Stream<Arguments> entities() {
+        return Stream.of(
+                Arguments.of((Function<Integer, Object>) id -> new User(id, "user", "user@mail.ru")),
+                Arguments.of((Function<Integer, Object>) id -> new Item(id, "tent", "tent", 1, true,
+                        null, null, null)),
+                Arguments.of((Function<Integer, Object>) id -> new Booking(id, null, null, null, null, null)),
+                Arguments.of((Function<Integer, Object>) id -> new ItemRequest(id, "need a tent", null, null, null)),
+                Arguments.of((Function<Integer, Object>) id -> new Comment(id, "great tent", null, null, null))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("entities")
+    void persistedEntitiesAreEqualById(Function<Integer, Object> entity) {
+        Object first = entity.apply(1);
+
+        assertThat(first).isEqualTo(first);
+        assertThat(first).isEqualTo(entity.apply(1));
+        assertThat(first).hasSameHashCodeAs(entity.apply(1));
+        assertThat(first).isNotEqualTo(entity.apply(2));
+        assertThat(first).isNotEqualTo(new Object());
+    }
+
+    @ParameterizedTest
+    @MethodSource("entities")
+    void transientEntitiesKeepTheirHashCodeOnceSaved(Function<Integer, Object> entity) {
+        Object transientEntity = entity.apply(null);
+        Set<Object> entities = new HashSet<>(Set.of(transientEntity));
+
+        assertThat(transientEntity).isNotEqualTo(entity.apply(null));
+        assertThat(entity.apply(1)).isNotEqualTo(transientEntity);
+        assertThat(entities).contains(transientEntity);
+        assertThat(transientEntity.hashCode()).isEqualTo(transientEntity.getClass().hashCode());
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsCreateBookingAndItemIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where table_schema = 'PUBLIC'",
+                String.class);
+
+        assertThat(indexes).contains(
+                "ix_bookings_booker_start",
+                "ix_bookings_item_status_start",
+                "ix_items_owner",
+                "ix_item_requests_requester",
+                "ix_comments_item");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "select * from bookings where booker_id = 1 and start_date > now() order by start_date desc "
+                    + "| ix_bookings_booker_start",
+            "select * from bookings where item_id = 1 and status = 'APPROVED' and start_date < now() "
+                    + "| ix_bookings_item_status_start"
+    })
+    void bookingQueryPlanUsesCompositeIndex(String query, String index) {
+        String plan = jdbcTemplate.queryForObject("explain " + query, String.class);
+
+        assertThat(plan).containsIgnoringCase(index);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "select * from items where owner_id = 1",
+            "select * from item_requests where requester_id = 1",
+            "select * from comments where item_id = 1"
+    })
+    void lookupByForeignKeyQueryPlanAvoidsTableScan(String query) {
+        String plan = jdbcTemplate.queryForObject("explain " + query, String.class);
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+}
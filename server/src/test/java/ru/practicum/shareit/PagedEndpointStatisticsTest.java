@@ -0,0 +1,141 @@
+package ru.practicum.shareit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class PagedEndpointStatisticsTest extends QueryCountTest {
+
+    private static final int ITEMS = 12;
+
+    private static final String USER_EXISTS_QUERY = "select count(*) from User x WHERE x.id = :id";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        booker = userRepository.save(new User(null, "booker", uniqueEmail("booker")));
+        LocalDateTime now = LocalDateTime.now();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            ItemRequest request = itemRequestRepository.save(
+                    new ItemRequest(null, "need a drill " + i, booker, now.minusDays(i), null));
+            items.add(new Item(null, "drill " + i, "drill " + i, owner.getId(), true, null, null, request));
+        }
+        items = itemRepository.saveAll(items);
+        List<Booking> bookings = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (Item item : items) {
+            bookings.add(new Booking(null, item, booker, now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED));
+            bookings.add(new Booking(null, item, booker, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING));
+            comments.add(new Comment(null, "good drill", item, booker, now.minusHours(1)));
+        }
+        bookingRepository.saveAll(bookings);
+        commentRepository.saveAll(comments);
+    }
+
+    @Test
+    void bookerBookingsPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/bookings")
+                .param("state", "ALL").param("from", "0").param("size", "20")
+                .header("X-Sharer-User-Id", booker.getId()));
+    }
+
+    @Test
+    void ownerBookingsPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/bookings/owner")
+                .param("state", "ALL").param("from", "0").param("size", "20")
+                .header("X-Sharer-User-Id", owner.getId()));
+    }
+
+    @Test
+    void ownerItemsPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/items")
+                .param("from", "0").param("size", "20")
+                .header("X-Sharer-User-Id", owner.getId()));
+    }
+
+    @Test
+    void itemSearchPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/items/search")
+                .param("text", "drill").param("from", "0").param("size", "20")
+                .header("X-Sharer-User-Id", booker.getId()));
+    }
+
+    @Test
+    void ownRequestsPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/requests")
+                .param("from", "0").param("size", "20")
+                .header("X-Sharer-User-Id", booker.getId()));
+    }
+
+    @Test
+    void otherUsersRequestsPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/requests/all")
+                .param("from", "0").param("size", "20")
+                .header("X-Sharer-User-Id", owner.getId()));
+    }
+
+    @Test
+    void usersPage() throws Exception {
+        assertNoCountAndNoLazyFetches(get("/users")
+                .param("from", "0").param("size", "20"));
+    }
+
+    private void assertNoCountAndNoLazyFetches(MockHttpServletRequestBuilder request) throws Exception {
+        statistics.clear();
+
+        countQueries(request);
+
+        assertThat(statistics.getQueries())
+                .isNotEmpty()
+                .filteredOn(query -> query.toLowerCase().contains("count("))
+                .allMatch(USER_EXISTS_QUERY::equals);
+        assertThat(statistics.getEntityFetchCount()).as("entity fetches").isZero();
+        assertThat(statistics.getCollectionFetchCount()).as("collection fetches").isZero();
+    }
+}
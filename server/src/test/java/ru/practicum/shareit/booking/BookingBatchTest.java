@@ -0,0 +1,135 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.metrics.NPlusOneProperties;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BookingBatchTest extends QueryCountTest {
+
+    private static final int ITEMS = 5;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NPlusOneProperties nPlusOneProperties;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private User owner;
+    private User booker;
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        booker = userRepository.save(new User(null, "booker", uniqueEmail("booker")));
+        items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new Item(null, "tent " + i, "tent " + i, owner.getId(), true, null, null, null));
+        }
+        items = itemRepository.saveAll(items);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 150})
+    void largeBatchPassesTheNPlusOneDetectorInFailMode(int size) throws Exception {
+        assertThat(nPlusOneProperties.getMode()).isEqualTo(NPlusOneProperties.Mode.FAIL);
+
+        mockMvc.perform(batch(booker, bookings(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(size));
+    }
+
+    @Test
+    void unknownItemIsNotFound() throws Exception {
+        List<BookingDto> bookings = bookings(3);
+        bookings.get(1).setItemId(Integer.MAX_VALUE);
+
+        long before = bookingRepository.count();
+
+        mockMvc.perform(batch(booker, bookings))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("item with id " + Integer.MAX_VALUE + " not found"));
+        assertThat(bookingRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void overlapWithApprovedBookingIsConflict() throws Exception {
+        List<BookingDto> bookings = bookings(3);
+        BookingDto overlapping = bookings.get(2);
+        User otherBooker = userRepository.save(new User(null, "other booker", uniqueEmail("other")));
+        bookingRepository.save(new Booking(null, items.get(2), otherBooker, overlapping.getStart().minusHours(1),
+                overlapping.getStart().plusHours(1), BookingStatus.APPROVED));
+        long before = bookingRepository.count();
+
+        mockMvc.perform(batch(booker, bookings))
+                .andExpect(status().isConflict());
+        assertThat(bookingRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void ownerCannotBookOwnItem() throws Exception {
+        mockMvc.perform(batch(owner, bookings(3)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("user with id = " + owner.getId() + " can't book his own item"));
+    }
+
+    @Test
+    void nullBookingIsBadRequest() throws Exception {
+        List<BookingDto> bookings = bookings(3);
+        bookings.set(1, null);
+
+        mockMvc.perform(batch(booker, bookings))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("batch must not contain null bookings"));
+    }
+
+    private List<BookingDto> bookings(int size) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<BookingDto> bookings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LocalDateTime bookingStart = start.plusDays(i);
+            bookings.add(new BookingDto(items.get(i % ITEMS).getId(), 0, bookingStart, bookingStart.plusHours(2)));
+        }
+        return bookings;
+    }
+
+    private MockHttpServletRequestBuilder batch(User user, Object body) throws Exception {
+        return post("/bookings/batch")
+                .header("X-Sharer-User-Id", user.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+    }
+}
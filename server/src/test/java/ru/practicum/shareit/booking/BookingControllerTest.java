@@ -0,0 +1,216 @@
+package ru.practicum.shareit.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.PageCursor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BookingControllerTest extends QueryCountTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private User owner;
+    private User booker;
+    private Item item;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        booker = userRepository.save(new User(null, "booker", uniqueEmail("booker")));
+        item = itemRepository.save(new Item(null, "tent", "tent", owner.getId(), true, null, null, null));
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void addBooking() throws Exception {
+        mockMvc.perform(book(booker, item.getId(), now.plusDays(1), now.plusDays(2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.item.id").value(item.getId()))
+                .andExpect(jsonPath("$.item.name").value("tent"))
+                .andExpect(jsonPath("$.booker.id").value(booker.getId()))
+                .andExpect(jsonPath("$.status").value("WAITING"));
+    }
+
+    @Test
+    void addBookingIsRejectedForUnbookableItems() throws Exception {
+        Item broken = itemRepository.save(new Item(null, "stove", "stove", owner.getId(), false, null, null, null));
+
+        mockMvc.perform(book(booker, broken.getId(), now.plusDays(1), now.plusDays(2)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("item with id = " + broken.getId() + " is not available now"));
+        mockMvc.perform(book(owner, item.getId(), now.plusDays(1), now.plusDays(2)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("user with id = " + owner.getId() + " can't book his own item"));
+        mockMvc.perform(book(booker, Integer.MAX_VALUE, now.plusDays(1), now.plusDays(2)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void addBookingOverlappingApprovedBookingIsConflict() throws Exception {
+        saveBooking(now.plusDays(1), now.plusDays(3), BookingStatus.APPROVED);
+
+        mockMvc.perform(book(booker, item.getId(), now.plusDays(2), now.plusDays(4)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error")
+                        .value("item with id = " + item.getId() + " is already booked for this period"));
+    }
+
+    @Test
+    void ownerApprovesOrRejectsWaitingBookings() throws Exception {
+        Booking approved = saveBooking(now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        Booking rejected = saveBooking(now.plusDays(3), now.plusDays(4), BookingStatus.WAITING);
+
+        mockMvc.perform(approve(booker, approved.getId(), true))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(approve(owner, approved.getId(), true))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+        mockMvc.perform(approve(owner, rejected.getId(), false))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJECTED"));
+        mockMvc.perform(approve(owner, approved.getId(), false))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("it's impossible to change status of booking after approved"));
+        mockMvc.perform(approve(owner, Integer.MAX_VALUE, true))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void approvingOverlappingBookingIsConflict() throws Exception {
+        saveBooking(now.plusDays(1), now.plusDays(3), BookingStatus.APPROVED);
+        Booking waiting = saveBooking(now.plusDays(2), now.plusDays(4), BookingStatus.WAITING);
+
+        mockMvc.perform(approve(owner, waiting.getId(), true))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void bookingIsVisibleToBookerAndOwnerOnly() throws Exception {
+        Booking booking = saveBooking(now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        User stranger = userRepository.save(new User(null, "stranger", uniqueEmail("stranger")));
+
+        mockMvc.perform(get("/bookings/{bookingId}", booking.getId()).header("X-Sharer-User-Id", booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(booking.getId()));
+        mockMvc.perform(get("/bookings/{bookingId}", booking.getId()).header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/bookings/{bookingId}", booking.getId()).header("X-Sharer-User-Id", stranger.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/bookings/{bookingId}", Integer.MAX_VALUE).header("X-Sharer-User-Id", booker.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/bookings, ALL, 4",
+            "/bookings, CURRENT, 1",
+            "/bookings, PAST, 1",
+            "/bookings, FUTURE, 2",
+            "/bookings, WAITING, 1",
+            "/bookings, REJECTED, 1",
+            "/bookings/owner, ALL, 4",
+            "/bookings/owner, CURRENT, 1",
+            "/bookings/owner, PAST, 1",
+            "/bookings/owner, FUTURE, 2",
+            "/bookings/owner, WAITING, 1",
+            "/bookings/owner, REJECTED, 1"
+    })
+    void listsFilterByStateAndFollowTheCursor(String path, String state, int expected) throws Exception {
+        saveBooking(now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED);
+        saveBooking(now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED);
+        saveBooking(now.plusDays(2), now.plusDays(3), BookingStatus.WAITING);
+        saveBooking(now.plusDays(4), now.plusDays(5), BookingStatus.REJECTED);
+        User user = path.endsWith("owner") ? owner : booker;
+
+        MvcResult firstPage = mockMvc.perform(get(path)
+                        .header("X-Sharer-User-Id", user.getId())
+                        .param("state", state)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().exists(PageCursor.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        mockMvc.perform(get(path)
+                        .header("X-Sharer-User-Id", user.getId())
+                        .param("state", state)
+                        .param("size", "10")
+                        .param("cursor", firstPage.getResponse().getHeader(PageCursor.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(expected - 1))
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void cursorWithoutStartIsBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .param("state", "ALL")
+                        .param("cursor", new PageCursor(1).encode()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("cursor doesn't contain start date"));
+    }
+
+    @Test
+    void unknownStateIsReported() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("state", "UNSUPPORTED_STATUS"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Unknown state: UNSUPPORTED_STATUS"));
+    }
+
+    private Booking saveBooking(LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        return bookingRepository.save(new Booking(null, item, booker, start, end, status));
+    }
+
+    private MockHttpServletRequestBuilder book(User user, Integer itemId, LocalDateTime start, LocalDateTime end)
+            throws Exception {
+        return post("/bookings")
+                .header("X-Sharer-User-Id", user.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BookingDto(itemId, 0, start, end)));
+    }
+
+    private MockHttpServletRequestBuilder approve(User user, Integer bookingId, boolean approved) {
+        return patch("/bookings/{bookingId}", bookingId)
+                .header("X-Sharer-User-Id", user.getId())
+                .param("approved", String.valueOf(approved));
+    }
+}
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.PageCursor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class BookingQueryCountTest extends QueryCountTest {
+
+    private static final int BOOKINGS = 30;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private User owner;
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        booker = userRepository.save(new User(null, "booker", uniqueEmail("booker")));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(new Item(null, "item " + i, "description " + i, owner.getId(), true, null, null, null));
+        }
+        items = itemRepository.saveAll(items);
+        LocalDateTime now = LocalDateTime.now();
+        BookingStatus[] statuses = BookingStatus.values();
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDateTime start = now.plusDays(i - BOOKINGS / 2);
+            bookings.add(new Booking(null, items.get(i % items.size()), booker, start, start.plusHours(1),
+                    statuses[i % statuses.length]));
+        }
+        bookingRepository.saveAll(bookings);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ALL", "WAITING", "REJECTED", "PAST", "FUTURE", "CURRENT"})
+    void bookerPageRunsTwoStatementsWhateverItsSize(String state) throws Exception {
+        int smallPage = countQueries(get("/bookings")
+                .param("state", state).param("from", "0").param("size", "5")
+                .header("X-Sharer-User-Id", booker.getId()));
+        int largePage = countQueries(get("/bookings")
+                .param("state", state).param("from", "0").param("size", String.valueOf(BOOKINGS))
+                .header("X-Sharer-User-Id", booker.getId()));
+
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ALL", "WAITING", "REJECTED", "PAST", "FUTURE", "CURRENT"})
+    void ownerPageRunsTwoStatementsWhateverItsSize(String state) throws Exception {
+        int smallPage = countQueries(get("/bookings/owner")
+                .param("state", state).param("from", "0").param("size", "5")
+                .header("X-Sharer-User-Id", owner.getId()));
+        int largePage = countQueries(get("/bookings/owner")
+                .param("state", state).param("from", "0").param("size", String.valueOf(BOOKINGS))
+                .header("X-Sharer-User-Id", owner.getId()));
+
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/bookings", "/bookings/owner"})
+    void cursorPageRunsTwoStatements(String path) throws Exception {
+        String cursor = new PageCursor(LocalDateTime.now().plusYears(1), Integer.MAX_VALUE)
+                .encode();
+        int userId = path.equals("/bookings") ? booker.getId() : owner.getId();
+
+        int count = countQueries(get(path)
+                .param("state", "ALL").param("size", String.valueOf(BOOKINGS)).param("cursor", cursor)
+                .header("X-Sharer-User-Id", userId));
+
+        assertThat(count).isEqualTo(2);
+    }
+}
@@ -0,0 +1,251 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.booking.dao.BookingRepository;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.PageCursor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ItemControllerTest extends QueryCountTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    private User owner;
+    private User booker;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        booker = userRepository.save(new User(null, "booker", uniqueEmail("booker")));
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void addItemForRequest() throws Exception {
+        ItemRequest request = itemRequestRepository.save(new ItemRequest(null, "need a tent", booker, now, null));
+
+        mockMvc.perform(post("/items")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ItemDto(null, "tent", "two person tent", true, null, null, null, request.getId())
+                        )))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("tent"))
+                .andExpect(jsonPath("$.requestId").value(request.getId()));
+    }
+
+    @Test
+    void addItemForUnknownRequestIsNotFound() throws Exception {
+        mockMvc.perform(post("/items")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ItemDto(null, "tent", "tent", true, null, null, null, Integer.MAX_VALUE)
+                        )))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("request with id " + Integer.MAX_VALUE + " not found"));
+    }
+
+    @Test
+    void partialUpdateKeepsOtherFields() throws Exception {
+        Item item = saveItem("tent", true);
+
+        mockMvc.perform(patch("/items/{itemId}", item.getId())
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("available", false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("tent"))
+                .andExpect(jsonPath("$.description").value("tent description"))
+                .andExpect(jsonPath("$.available").value(false));
+
+        mockMvc.perform(patch("/items/{itemId}", item.getId())
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "big tent", "description", "big"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("big tent"))
+                .andExpect(jsonPath("$.description").value("big"))
+                .andExpect(jsonPath("$.available").value(false));
+    }
+
+    @Test
+    void updateByAnotherUserIsNotFound() throws Exception {
+        Item item = saveItem("tent", true);
+
+        mockMvc.perform(patch("/items/{itemId}", item.getId())
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "stolen tent"))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error")
+                        .value("user with id " + booker.getId() + " can't update item with id " + item.getId()));
+        mockMvc.perform(patch("/items/{itemId}", Integer.MAX_VALUE)
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "tent"))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void ownerSeesLastAndNextBookings() throws Exception {
+        Item item = saveItem("tent", true);
+        Booking last = bookingRepository.save(new Booking(null, item, booker, now.minusDays(3), now.minusDays(2),
+                BookingStatus.APPROVED));
+        Booking next = bookingRepository.save(new Booking(null, item, booker, now.plusDays(2), now.plusDays(3),
+                BookingStatus.APPROVED));
+
+        mockMvc.perform(get("/items/{itemId}", item.getId()).header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastBooking.id").value(last.getId()))
+                .andExpect(jsonPath("$.lastBooking.bookerId").value(booker.getId()))
+                .andExpect(jsonPath("$.nextBooking.id").value(next.getId()));
+        mockMvc.perform(get("/items/{itemId}", item.getId()).header("X-Sharer-User-Id", booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastBooking").value(nullValue()))
+                .andExpect(jsonPath("$.nextBooking").value(nullValue()));
+        mockMvc.perform(get("/items/{itemId}", Integer.MAX_VALUE).header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void availabilitySplitsTheWindowIntoBusyAndFreePeriods() throws Exception {
+        Item item = saveItem("tent", true);
+        bookingRepository.save(new Booking(null, item, booker, now.plusDays(2), now.plusDays(3),
+                BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(null, item, booker, now.plusDays(5), now.plusDays(6),
+                BookingStatus.REJECTED));
+
+        mockMvc.perform(get("/items/{itemId}/availability", item.getId())
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .param("from", now.plusDays(1).toString())
+                        .param("to", now.plusDays(10).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId").value(item.getId()))
+                .andExpect(jsonPath("$.busy.length()").value(1))
+                .andExpect(jsonPath("$.free.length()").value(2));
+        mockMvc.perform(get("/items/{itemId}/availability", Integer.MAX_VALUE)
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .param("from", now.plusDays(1).toString())
+                        .param("to", now.plusDays(10).toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void ownerListingFollowsTheCursor() throws Exception {
+        Item first = saveItem("tent", true);
+        Item second = saveItem("stove", true);
+        Item third = saveItem("lamp", true);
+
+        MvcResult firstPage = mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first.getId()))
+                .andExpect(jsonPath("$[1].id").value(second.getId()))
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, new PageCursor(second.getId()).encode()))
+                .andReturn();
+
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("size", "2")
+                        .param("cursor", firstPage.getResponse().getHeader(PageCursor.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(third.getId()))
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("cursor", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("invalid cursor %%%"));
+    }
+
+    @Test
+    void searchFindsOnlyAvailableItems() throws Exception {
+        String word = "searchable" + owner.getId();
+        Item available = saveItem(word, true);
+        saveItem(word + " broken", false);
+
+        mockMvc.perform(get("/items/search").param("text", word.toUpperCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(available.getId()));
+        mockMvc.perform(get("/items/search").param("text", " "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void onlyPastBookerCanComment() throws Exception {
+        Item item = saveItem("tent", true);
+        CommentDto comment = new CommentDto(null, "great tent", null, null);
+
+        mockMvc.perform(post("/items/{itemId}/comment", item.getId())
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(comment)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("user with id = " + booker.getId() + " didn't book the item"));
+
+        bookingRepository.save(new Booking(null, item, booker, now.minusDays(3), now.minusDays(2),
+                BookingStatus.APPROVED));
+
+        mockMvc.perform(post("/items/{itemId}/comment", item.getId())
+                        .header("X-Sharer-User-Id", booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(comment)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.text").value("great tent"))
+                .andExpect(jsonPath("$.authorName").value("booker"));
+        mockMvc.perform(get("/items/{itemId}", item.getId()).header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(1));
+    }
+
+    private Item saveItem(String name, boolean available) {
+        return itemRepository.save(new Item(null, name, name + " description", owner.getId(), available,
+                null, null, null));
+    }
+}
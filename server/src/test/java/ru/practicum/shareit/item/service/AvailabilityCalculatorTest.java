@@ -0,0 +1,106 @@
+package ru.practicum.shareit.item.service;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.dto.BookingPeriodView;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.PeriodDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+class AvailabilityCalculatorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusHours(24);
+
+    @Test
+    void emptyBookingsLeaveWholeRangeFree() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(7, FROM, TO, List.of());
+
+        assertThat(availability.getItemId()).isEqualTo(7);
+        assertThat(availability.getBusy()).isEmpty();
+        assertThat(periods(availability.getFree())).containsExactly(period(0, 24));
+    }
+
+    @Test
+    void overlappingBookingsMergeIntoOneBusyPeriod() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(1, FROM, TO, List.of(
+                booking(5, 9), booking(2, 6), booking(8, 10)));
+
+        assertThat(periods(availability.getBusy())).containsExactly(period(2, 10));
+        assertThat(periods(availability.getFree())).containsExactly(period(0, 2), period(10, 24));
+    }
+
+    @Test
+    void adjacentBookingsMergeWithoutGap() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(1, FROM, TO, List.of(
+                booking(4, 6), booking(2, 4), booking(6, 8)));
+
+        assertThat(periods(availability.getBusy())).containsExactly(period(2, 8));
+        assertThat(periods(availability.getFree())).containsExactly(period(0, 2), period(8, 24));
+    }
+
+    @Test
+    void nestedBookingDoesNotShortenEnclosingOne() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(1, FROM, TO, List.of(
+                booking(2, 12), booking(4, 6), booking(14, 16)));
+
+        assertThat(periods(availability.getBusy())).containsExactly(period(2, 12), period(14, 16));
+        assertThat(periods(availability.getFree())).containsExactly(period(0, 2), period(12, 14), period(16, 24));
+    }
+
+    @Test
+    void bookingsCrossingBoundariesAreClipped() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(1, FROM, TO, List.of(
+                booking(-5, 3), booking(20, 30)));
+
+        assertThat(periods(availability.getBusy())).containsExactly(period(0, 3), period(20, 24));
+        assertThat(periods(availability.getFree())).containsExactly(period(3, 20));
+    }
+
+    @Test
+    void bookingCoveringWholeRangeLeavesNothingFree() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(1, FROM, TO, List.of(booking(-1, 25)));
+
+        assertThat(periods(availability.getBusy())).containsExactly(period(0, 24));
+        assertThat(availability.getFree()).isEmpty();
+    }
+
+    @Test
+    void bookingsOutsideRangeAreIgnored() {
+        ItemAvailabilityDto availability = AvailabilityCalculator.calculate(1, FROM, TO, List.of(
+                booking(-10, -2), booking(-2, 0), booking(24, 26)));
+
+        assertThat(availability.getBusy()).isEmpty();
+        assertThat(periods(availability.getFree())).containsExactly(period(0, 24));
+    }
+
+    private static List<Tuple> periods(List<PeriodDto> periods) {
+        return periods.stream()
+                .map(period -> tuple(period.getStart(), period.getEnd()))
+                .collect(Collectors.toList());
+    }
+
+    private static Tuple period(int startHour, int endHour) {
+        return tuple(FROM.plusHours(startHour), FROM.plusHours(endHour));
+    }
+
+    private static BookingPeriodView booking(int startHour, int endHour) {
+        return new BookingPeriodView() {
+            @Override
+            public LocalDateTime getStart() {
+                return FROM.plusHours(startHour);
+            }
+
+            @Override
+            public LocalDateTime getEnd() {
+                return FROM.plusHours(endHour);
+            }
+        };
+    }
+}
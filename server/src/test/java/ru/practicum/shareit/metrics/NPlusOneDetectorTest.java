@@ -0,0 +1,84 @@
+package ru.practicum.shareit.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import ru.practicum.shareit.exceptions.NPlusOneQueryException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(OutputCaptureExtension.class)
+class NPlusOneDetectorTest {
+
+    private static final String SHAPE = "select * from comments where item_id=?";
+
+    @Test
+    void failModeThrowsAtThreshold() {
+        NPlusOneDetector detector = detector(NPlusOneProperties.Mode.FAIL);
+
+        assertThatCode(() -> detector.check(SHAPE, 2)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> detector.check(SHAPE, 3))
+                .isInstanceOf(NPlusOneQueryException.class)
+                .hasMessageContaining("repeated 3 times")
+                .hasMessageContaining(SHAPE);
+    }
+
+    @Test
+    void warnModeOnlyLogsAtThreshold(CapturedOutput output) {
+        NPlusOneDetector detector = detector(NPlusOneProperties.Mode.WARN);
+
+        detector.check(SHAPE, 2);
+        assertThat(output).doesNotContain("n+1 query suspected");
+
+        assertThatCode(() -> detector.check(SHAPE, 3)).doesNotThrowAnyException();
+        assertThat(output).contains("n+1 query suspected").contains("repetitions=3").contains(SHAPE);
+    }
+
+    @Test
+    void warnModeLogsOncePerShape(CapturedOutput output) {
+        NPlusOneDetector detector = detector(NPlusOneProperties.Mode.WARN);
+
+        for (int repetitions = 1; repetitions <= 10; repetitions++) {
+            detector.check(SHAPE, repetitions);
+        }
+
+        assertThat(output.getOut().split("n\\+1 query suspected", -1)).hasSize(2);
+    }
+
+    @Test
+    void offModeNeitherThrowsNorLogs(CapturedOutput output) {
+        NPlusOneDetector detector = detector(NPlusOneProperties.Mode.OFF);
+
+        assertThatCode(() -> detector.check(SHAPE, 3)).doesNotThrowAnyException();
+        assertThat(output).doesNotContain("n+1 query suspected");
+    }
+
+    @Test
+    void shapeCollapsesInLists() {
+        assertThat(NPlusOneDetector.shapeOf("select * from comments where item_id in (?, ?, ?)"))
+                .isEqualTo("select * from comments where item_id in (?)");
+        assertThat(NPlusOneDetector.shapeOf("select * from comments where item_id IN (?,?)"))
+                .isEqualTo("select * from comments where item_id in (?)");
+    }
+
+    @Test
+    void onlySelectStatementsAreTracked() {
+        assertThat(NPlusOneDetector.isTracked(SHAPE)).isTrue();
+        assertThat(NPlusOneDetector.isTracked(" SELECT id from items where owner_id=?")).isTrue();
+        assertThat(NPlusOneDetector.isTracked("select nextval ('bookings_seq')")).isFalse();
+        assertThat(NPlusOneDetector.isTracked("call next value for bookings_seq")).isFalse();
+        assertThat(NPlusOneDetector.isTracked("insert into bookings (id, item_id) values (?, ?)")).isFalse();
+        assertThat(NPlusOneDetector.isTracked("update bookings set status=? where id=?")).isFalse();
+        assertThat(NPlusOneDetector.isTracked("delete from bookings where id=?")).isFalse();
+    }
+
+    private static NPlusOneDetector detector(NPlusOneProperties.Mode mode) {
+        NPlusOneProperties properties = new NPlusOneProperties();
+        properties.setMode(mode);
+        properties.setThreshold(3);
+        return new NPlusOneDetector(properties);
+    }
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.ItemRequestRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.util.PageCursor;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ItemRequestControllerTest extends QueryCountTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private User owner;
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        requester = userRepository.save(new User(null, "requester", uniqueEmail("requester")));
+    }
+
+    @Test
+    void addRequest() throws Exception {
+        mockMvc.perform(post("/requests")
+                        .header("X-Sharer-User-Id", requester.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ItemRequestDto(null, "need a ladder", null, null)
+                        )))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("need a ladder"))
+                .andExpect(jsonPath("$.created").exists());
+    }
+
+    @Test
+    void requesterSeesOwnRequestsWithAnswers() throws Exception {
+        ItemRequest request = saveRequest("need a ladder");
+        Item answer = itemRepository.save(
+                new Item(null, "ladder", "ladder", owner.getId(), true, null, null, request));
+
+        mockMvc.perform(get("/requests").header("X-Sharer-User-Id", requester.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(request.getId()))
+                .andExpect(jsonPath("$[0].items[0].id").value(answer.getId()));
+        mockMvc.perform(get("/requests/{requestId}", request.getId()).header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("need a ladder"))
+                .andExpect(jsonPath("$.items.length()").value(1));
+        mockMvc.perform(get("/requests/{requestId}", Integer.MAX_VALUE).header("X-Sharer-User-Id", owner.getId()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("request with id " + Integer.MAX_VALUE + " not found"));
+    }
+
+    @Test
+    void otherUsersPageThroughRequestsWithTheCursor() throws Exception {
+        ItemRequest first = saveRequest("need a ladder");
+        ItemRequest second = saveRequest("need a tent");
+        PageCursor cursor = new PageCursor(first.getId() - 1);
+
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("size", "1")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first.getId()))
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, new PageCursor(first.getId()).encode()));
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", owner.getId())
+                        .param("cursor", new PageCursor(first.getId()).encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(second.getId()));
+        mockMvc.perform(get("/requests/all")
+                        .header("X-Sharer-User-Id", requester.getId())
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/requests/all").header("X-Sharer-User-Id", requester.getId()))
+                .andExpect(status().isOk());
+    }
+
+    private ItemRequest saveRequest(String description) {
+        return itemRequestRepository.save(new ItemRequest(null, description, requester, LocalDateTime.now(), null));
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.request;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.item.dao.CommentRepository;
+import ru.practicum.shareit.item.dao.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dao.ItemRequestRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+class ItemRequestQueryCountTest extends QueryCountTest {
+
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User owner;
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        owner = userRepository.save(new User(null, "owner", uniqueEmail("owner")));
+        requester = userRepository.save(new User(null, "requester", uniqueEmail("requester")));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < REQUESTS; i++) {
+            ItemRequest request = itemRequestRepository.save(
+                    new ItemRequest(null, "need a ladder " + i, requester, now.minusDays(i), null));
+            for (int j = 0; j < 2; j++) {
+                Item item = itemRepository.save(
+                        new Item(null, "ladder " + i, "ladder " + j, owner.getId(), true, null, null, request));
+                commentRepository.save(new Comment(null, "solid ladder", item, requester, now.minusHours(1)));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/requests", "/requests/all"})
+    void requestPageStatementCountDoesNotGrowWithPageSize(String path) throws Exception {
+        int userId = path.equals("/requests") ? requester.getId() : owner.getId();
+
+        int smallPage = countQueries(get(path)
+                .param("from", "0").param("size", "2")
+                .header("X-Sharer-User-Id", userId));
+        statistics.clear();
+        int largePage = countQueries(get(path)
+                .param("from", "0").param("size", String.valueOf(REQUESTS))
+                .header("X-Sharer-User-Id", userId));
+
+        assertThat(smallPage).isEqualTo(4);
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(statistics.getEntityFetchCount()).as("entity fetches").isZero();
+        assertThat(statistics.getCollectionFetchCount()).as("collection fetches").isZero();
+    }
+}
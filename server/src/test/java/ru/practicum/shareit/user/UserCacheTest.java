@@ -0,0 +1,49 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exceptions.ValidationException;
+import ru.practicum.shareit.user.dao.UserRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.Validation;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private Validation validation;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void concurrentCheckBeforeDeleteCommitsDoesNotKeepUserCached() {
+        User user = userRepository.save(new User(null, "user", "cached" + System.nanoTime() + "@mail.ru"));
+        assertThat(validation.validateUserExists(user.getId())).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteUserById(user.getId());
+            boolean seenByConcurrentRequest = CompletableFuture
+                    .supplyAsync(() -> validation.validateUserExists(user.getId()))
+                    .join();
+            assertThat(seenByConcurrentRequest).isTrue();
+        });
+
+        assertThatThrownBy(() -> validation.validateUserExists(user.getId()))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import ru.practicum.shareit.QueryCountTest;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerTest extends QueryCountTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void userLifecycle() throws Exception {
+        String email = uniqueEmail("anna");
+        int userId = addUser("Anna", email);
+
+        mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Anna"))
+                .andExpect(jsonPath("$.email").value(email));
+
+        mockMvc.perform(patch("/users/{userId}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Anna Maria"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Anna Maria"))
+                .andExpect(jsonPath("$.email").value(email));
+
+        String newEmail = uniqueEmail("maria");
+        mockMvc.perform(patch("/users/{userId}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("email", newEmail))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Anna Maria"))
+                .andExpect(jsonPath("$.email").value(newEmail));
+
+        mockMvc.perform(delete("/users/{userId}", userId))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("user with id " + userId + " not found"));
+    }
+
+    @Test
+    void updateOfUnknownUserIsNotFound() throws Exception {
+        mockMvc.perform(patch("/users/{userId}", Integer.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "nobody"))))
+                .andExpect(status().isNotFound());
+    }
+
+    private int addUser(String name, String email) throws Exception {
+        String response = mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", name, "email", email))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, UserDto.class).getId();
+    }
+}